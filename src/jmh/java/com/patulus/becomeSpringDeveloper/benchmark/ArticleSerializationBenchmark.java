@@ -0,0 +1,122 @@
+package com.patulus.becomeSpringDeveloper.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.patulus.becomeSpringDeveloper.domain.Article;
+import com.patulus.becomeSpringDeveloper.dto.ArticleListViewResponse;
+import com.patulus.becomeSpringDeveloper.dto.ArticleResponse;
+import com.patulus.becomeSpringDeveloper.repository.ArticleSummary;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+// 엔티티 -> DTO 변환과 Jackson 직렬화 비용을 글 수별로 측정 (DB 없이 메모리에서만 실행)
+// 직렬화 결과는 버리는 OutputStream에 써서 바이트 배열 할당 비용은 측정에서 제외
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ArticleSerializationBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int rows;
+
+    private List<Article> articles;
+    private List<ArticleSummary> summaries;
+    private List<ArticleResponse> responses;
+    private ObjectMapper objectMapper;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // 스프링 부트가 만드는 ObjectMapper와 같은 설정(JavaTimeModule 등록, 날짜를 문자열로 출력)
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        articles = IntStream.range(0, rows)
+                .mapToObj(i -> Article.builder()
+                        .title("벤치마크 제목 " + i)
+                        .content("벤치마크 본문입니다. ".repeat(20) + i)
+                        .build())
+                .toList();
+        summaries = IntStream.range(0, rows)
+                .mapToObj(i -> summary(i, "벤치마크 제목 " + i, "벤치마크 본문입니다. ".repeat(5)))
+                .toList();
+        responses = articles.stream()
+                .map(ArticleResponse::new)
+                .toList();
+    }
+
+    @Benchmark
+    public List<ArticleResponse> mapArticleResponse() {
+        return articles.stream()
+                .map(ArticleResponse::new)
+                .toList();
+    }
+
+    @Benchmark
+    public List<ArticleListViewResponse> mapArticleListViewResponse() {
+        return summaries.stream()
+                .map(ArticleListViewResponse::new)
+                .toList();
+    }
+
+    @Benchmark
+    public void serializeArticleResponses() throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), responses);
+    }
+
+    // 엔티티 목록을 DTO로 바꾼 뒤 직렬화하는 기존 /api/articles 전체 경로
+    @Benchmark
+    public void mapAndSerializeArticleResponses() throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), mapArticleResponse());
+    }
+
+    @Benchmark
+    public void mapAndSerializeArticleListViewResponses() throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), mapArticleListViewResponse());
+    }
+
+    private static ArticleSummary summary(long id, String title, String excerpt) {
+        LocalDateTime createdAt = LocalDateTime.now();
+
+        return new ArticleSummary() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getTitle() {
+                return title;
+            }
+
+            @Override
+            public String getExcerpt() {
+                return excerpt;
+            }
+
+            @Override
+            public LocalDateTime getCreatedAt() {
+                return createdAt;
+            }
+        };
+    }
+
+}
@@ -0,0 +1,117 @@
+package com.patulus.becomeSpringDeveloper.benchmark;
+
+import com.patulus.becomeSpringDeveloper.BecomeSpringDeveloperApplication;
+import com.patulus.becomeSpringDeveloper.domain.Article;
+import com.patulus.becomeSpringDeveloper.dto.AddArticleRequest;
+import com.patulus.becomeSpringDeveloper.dto.ArticlePageResponse;
+import com.patulus.becomeSpringDeveloper.dto.ArticleResponse;
+import com.patulus.becomeSpringDeveloper.dto.UpdateArticleRequest;
+import com.patulus.becomeSpringDeveloper.service.ArticleBatchService;
+import com.patulus.becomeSpringDeveloper.service.ArticleCache;
+import com.patulus.becomeSpringDeveloper.service.BlogService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+// BlogService의 조회/저장/수정 경로를 내장 H2 DB에 대해 측정
+// 글 수(rows)별로 애플리케이션을 새로 띄우고 데이터를 채운 뒤 측정함
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class BlogServiceBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int rows;
+
+    private ConfigurableApplicationContext context;
+    private BlogService blogService;
+    private ArticleCache articleCache;
+    private long[] ids;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(BecomeSpringDeveloperApplication.class)
+                // 로컬 개발용 서명 키를 쓰도록 local 프로필로 실행
+                .profiles("local")
+                .properties("server.port=0", "spring.main.banner-mode=off", "logging.level.root=warn")
+                .run();
+        blogService = context.getBean(BlogService.class);
+        articleCache = context.getBean(ArticleCache.class);
+
+        context.getBean(ArticleBatchService.class).saveAll(IntStream.range(0, rows)
+                .mapToObj(i -> new AddArticleRequest("벤치마크 제목 " + i, "벤치마크 본문입니다. ".repeat(20) + i))
+                .iterator());
+
+        List<Long> savedIds = context.getBean(JdbcTemplate.class).queryForList("select id from article", Long.class);
+        ids = savedIds.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    private long nextId() {
+        next = (next + 1) % ids.length;
+        return ids[next];
+    }
+
+    // 전체 엔티티 조회 (기존 목록 경로와 비교하기 위한 기준값)
+    @Benchmark
+    public List<Article> findAll() {
+        return blogService.findAll();
+    }
+
+    // 키셋 페이지네이션 첫 페이지 (현재 목록 경로)
+    @Benchmark
+    public ArticlePageResponse findPage() {
+        return blogService.findPage(null, BlogService.DEFAULT_PAGE_SIZE);
+    }
+
+    // 글 캐시를 거치는 단건 조회 (캐시 크기보다 글이 많으면 일부는 DB 조회)
+    @Benchmark
+    public ArticleResponse findById() {
+        return blogService.findById(nextId());
+    }
+
+    // 캐시를 비운 뒤 단건 조회해 항상 DB를 읽는 경로
+    @Benchmark
+    public ArticleResponse findByIdCacheMiss() {
+        long id = nextId();
+        articleCache.evict(id);
+
+        return blogService.findById(id);
+    }
+
+    @Benchmark
+    public Article save() {
+        return blogService.save(new AddArticleRequest("새 글", "새 글 본문"));
+    }
+
+    @Benchmark
+    public void update() {
+        blogService.update(nextId(), new UpdateArticleRequest("수정한 제목", "수정한 본문"));
+    }
+
+}
@@ -0,0 +1,128 @@
+package com.patulus.becomeSpringDeveloper.benchmark;
+
+import com.patulus.becomeSpringDeveloper.BecomeSpringDeveloperApplication;
+import com.patulus.becomeSpringDeveloper.dto.AddArticleRequest;
+import com.patulus.becomeSpringDeveloper.dto.AddUserRequest;
+import com.patulus.becomeSpringDeveloper.service.ArticleBatchService;
+import com.patulus.becomeSpringDeveloper.service.UserService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+// 글 목록 응답(JSON 100건, 목록 화면 HTML)을 압축하지 않을 때(identity)와 gzip으로 받을 때의 지연 시간을 HTTP/1.1, HTTP/2(h2c)로 비교
+// 전송되는 본문 크기는 시작할 때 경로별로 한 번씩 출력함 (HttpClient는 압축을 풀지 않으므로 받은 바이트가 곧 전송량)
+// SampleTime 모드는 p50/p90/p99 등 백분위 지연 시간을 보여줌
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Threads(8)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class CompressionBenchmark {
+
+    private static final int ROWS = 1_000;
+    private static final String EMAIL = "benchmark@example.com";
+    private static final String PASSWORD = "benchmark";
+    private static final String ARTICLES_JSON = "/api/articles?size=100";
+    private static final String ARTICLES_HTML = "/articles";
+
+    @Param({"identity", "gzip"})
+    private String acceptEncoding;
+
+    @Param({"HTTP_1_1", "HTTP_2"})
+    private HttpClient.Version protocol;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private String baseUrl;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, InterruptedException {
+        context = new SpringApplicationBuilder(BecomeSpringDeveloperApplication.class)
+                // 로컬 개발용 서명 키를 쓰도록 local 프로필로 실행
+                .profiles("local")
+                .properties("server.port=0", "spring.main.banner-mode=off", "logging.level.root=warn")
+                // 기본 속성(properties)은 application.yml보다 우선순위가 낮으므로 실행 인자로 넘김
+                // 요청 수 제한에 걸리지 않도록 끄고 측정
+                .run("--blog.rate-limit.enabled=false");
+        baseUrl = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+
+        context.getBean(ArticleBatchService.class).saveAll(IntStream.range(0, ROWS)
+                .mapToObj(i -> new AddArticleRequest("벤치마크 제목 " + i, "벤치마크 본문입니다. ".repeat(20) + i))
+                .iterator());
+
+        AddUserRequest user = new AddUserRequest();
+        user.setEmail(EMAIL);
+        user.setPassword(PASSWORD);
+        context.getBean(UserService.class).save(user);
+
+        // HTTP_2이면 첫 요청에서 h2c로 업그레이드한 연결을 이후 요청에 재사용
+        client = HttpClient.newBuilder()
+                .version(protocol)
+                .cookieHandler(new CookieManager())
+                .build();
+        client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/login"))
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString("username=" + EMAIL + "&password=" + PASSWORD))
+                .build(), HttpResponse.BodyHandlers.discarding());
+
+        for (String path : new String[]{ARTICLES_JSON, ARTICLES_HTML}) {
+            HttpResponse<byte[]> response = send(path);
+            System.out.printf("%s %s Accept-Encoding=%s Content-Encoding=%s: %d bytes%n", response.version(), path,
+                    acceptEncoding, response.headers().firstValue("Content-Encoding").orElse("identity"), response.body().length);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    // DB 조회와 JSON 직렬화 후 요청마다 압축
+    @Benchmark
+    public int listArticlesJson() throws IOException, InterruptedException {
+        return send(ARTICLES_JSON).body().length;
+    }
+
+    // 렌더링 캐시에 미리 압축해 둔 HTML을 그대로 전송
+    @Benchmark
+    public int listArticlesHtml() throws IOException, InterruptedException {
+        return send(ARTICLES_HTML).body().length;
+    }
+
+    private HttpResponse<byte[]> send(String path) throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = client.send(HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Accept-Encoding", acceptEncoding)
+                .GET()
+                .build(), HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("unexpected status " + response.statusCode() + " for " + path);
+        }
+        return response;
+    }
+
+}
@@ -0,0 +1,127 @@
+package com.patulus.becomeSpringDeveloper.benchmark;
+
+import com.patulus.becomeSpringDeveloper.BecomeSpringDeveloperApplication;
+import com.patulus.becomeSpringDeveloper.dto.AddArticleRequest;
+import com.patulus.becomeSpringDeveloper.dto.AddUserRequest;
+import com.patulus.becomeSpringDeveloper.service.ArticleBatchService;
+import com.patulus.becomeSpringDeveloper.service.UserService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+// 기존 블로킹 읽기 API(/api/articles, JPA)와 논블로킹 읽기 API(/api/v2/articles, R2DBC)의 처리량과 지연 시간 분포(p99 등)를 HTTP로 비교
+// 동시 클라이언트(200)가 톰캣 스레드 풀 크기(50)보다 많도록 두어 높은 동시성에서 요청 스레드를 오래 잡는 쪽이 불리하게 함
+// 같은 조건에서 비교할 수 있도록 두 API 모두 가상 스레드를 끈 상태로 측정
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Threads(200)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class ReactiveReadBenchmark {
+
+    // 전체 글 스트리밍을 200개 요청이 동시에 받으므로 글 수는 VirtualThreadBenchmark보다 적게 둠
+    private static final int ROWS = 1_000;
+    private static final String EMAIL = "benchmark@example.com";
+    private static final String PASSWORD = "benchmark";
+
+    @Param({"blocking", "reactive"})
+    private String api;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private String baseUrl;
+    private String streamPath;
+    private String findPath;
+    private long[] ids;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, InterruptedException {
+        context = new SpringApplicationBuilder(BecomeSpringDeveloperApplication.class)
+                // 로컬 개발용 서명 키를 쓰도록 local 프로필로 실행
+                .profiles("local")
+                .properties("server.port=0", "spring.main.banner-mode=off", "logging.level.root=warn",
+                        "server.tomcat.threads.max=50")
+                // 기본 속성(properties)은 application.yml보다 우선순위가 낮으므로 실행 인자로 넘김
+                // 요청 수 제한에 걸리지 않도록 끄고 측정
+                .run("--blog.rate-limit.enabled=false");
+        baseUrl = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+        streamPath = "blocking".equals(api) ? "/api/articles/export" : "/api/v2/articles";
+        findPath = "blocking".equals(api) ? "/api/articles/" : "/api/v2/articles/";
+
+        context.getBean(ArticleBatchService.class).saveAll(IntStream.range(0, ROWS)
+                .mapToObj(i -> new AddArticleRequest("벤치마크 제목 " + i, "벤치마크 본문입니다. ".repeat(20) + i))
+                .iterator());
+        List<Long> savedIds = context.getBean(JdbcTemplate.class).queryForList("select id from article", Long.class);
+        ids = savedIds.stream().mapToLong(Long::longValue).toArray();
+
+        AddUserRequest user = new AddUserRequest();
+        user.setEmail(EMAIL);
+        user.setPassword(PASSWORD);
+        context.getBean(UserService.class).save(user);
+
+        // 폼 로그인으로 받은 세션 쿠키를 이후 모든 요청에 사용
+        client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .cookieHandler(new CookieManager())
+                .build();
+        client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/login"))
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString("username=" + EMAIL + "&password=" + PASSWORD))
+                .build(), HttpResponse.BodyHandlers.discarding());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    // 전체 글을 NDJSON으로 받기 (블로킹: JPA 스트림 + StreamingResponseBody, 논블로킹: R2DBC Flux)
+    @Benchmark
+    public int streamArticles() throws IOException, InterruptedException {
+        return get(streamPath);
+    }
+
+    // 단건 조회 (블로킹 쪽은 글 캐시와 ETag 확인을 거치고, 논블로킹 쪽은 매번 DB를 읽음)
+    @Benchmark
+    public int findArticle() throws IOException, InterruptedException {
+        return get(findPath + ids[ThreadLocalRandom.current().nextInt(ids.length)]);
+    }
+
+    private int get(String path) throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = client.send(HttpRequest.newBuilder(URI.create(baseUrl + path)).GET().build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("unexpected status " + response.statusCode() + " for " + path);
+        }
+        return response.body().length;
+    }
+
+}
@@ -0,0 +1,122 @@
+package com.patulus.becomeSpringDeveloper.benchmark;
+
+import com.patulus.becomeSpringDeveloper.BecomeSpringDeveloperApplication;
+import com.patulus.becomeSpringDeveloper.dto.AddArticleRequest;
+import com.patulus.becomeSpringDeveloper.dto.AddUserRequest;
+import com.patulus.becomeSpringDeveloper.service.ArticleBatchService;
+import com.patulus.becomeSpringDeveloper.service.UserService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+// 요청 처리 스레드를 플랫폼 스레드 풀로 둘 때와 가상 스레드로 둘 때의 처리량과 지연 시간 분포(p99 등)를 HTTP로 비교
+// 동시 클라이언트(200)가 톰캣 스레드 풀 크기(50)보다 많도록 두어, 플랫폼 스레드 모드에서는 요청이 스레드를 기다리게 함
+// Throughput 모드는 초당 처리량, SampleTime 모드는 p50/p90/p99 등 백분위 지연 시간을 보여줌
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Threads(200)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class VirtualThreadBenchmark {
+
+    private static final int ROWS = 10_000;
+    private static final String EMAIL = "benchmark@example.com";
+    private static final String PASSWORD = "benchmark";
+
+    @Param({"false", "true"})
+    private boolean virtualThreads;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private String baseUrl;
+    private long[] ids;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, InterruptedException {
+        context = new SpringApplicationBuilder(BecomeSpringDeveloperApplication.class)
+                // 로컬 개발용 서명 키를 쓰도록 local 프로필로 실행
+                .profiles("local")
+                .properties("server.port=0", "spring.main.banner-mode=off", "logging.level.root=warn",
+                        "server.tomcat.threads.max=50")
+                // 기본 속성(properties)은 application.yml보다 우선순위가 낮으므로 실행 인자로 넘김
+                // 요청 수 제한에 걸리지 않도록 끄고 측정
+                .run("--spring.threads.virtual.enabled=" + virtualThreads, "--blog.rate-limit.enabled=false");
+        baseUrl = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+
+        context.getBean(ArticleBatchService.class).saveAll(IntStream.range(0, ROWS)
+                .mapToObj(i -> new AddArticleRequest("벤치마크 제목 " + i, "벤치마크 본문입니다. ".repeat(20) + i))
+                .iterator());
+        List<Long> savedIds = context.getBean(JdbcTemplate.class).queryForList("select id from article", Long.class);
+        ids = savedIds.stream().mapToLong(Long::longValue).toArray();
+
+        AddUserRequest user = new AddUserRequest();
+        user.setEmail(EMAIL);
+        user.setPassword(PASSWORD);
+        context.getBean(UserService.class).save(user);
+
+        // 폼 로그인으로 받은 세션 쿠키를 이후 모든 요청에 사용
+        client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .cookieHandler(new CookieManager())
+                .build();
+        client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/login"))
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString("username=" + EMAIL + "&password=" + PASSWORD))
+                .build(), HttpResponse.BodyHandlers.discarding());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    // 매 요청마다 DB를 읽는 목록 조회 (키셋 페이지 + 목록 버전 조회)
+    @Benchmark
+    public int listArticles() throws IOException, InterruptedException {
+        return get("/api/articles");
+    }
+
+    // 글 캐시를 거치는 단건 조회 (갱신 시각 확인 쿼리는 매번 실행)
+    @Benchmark
+    public int findArticle() throws IOException, InterruptedException {
+        return get("/api/articles/" + ids[ThreadLocalRandom.current().nextInt(ids.length)]);
+    }
+
+    private int get(String path) throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = client.send(HttpRequest.newBuilder(URI.create(baseUrl + path)).GET().build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("unexpected status " + response.statusCode() + " for " + path);
+        }
+        return response.body().length;
+    }
+
+}
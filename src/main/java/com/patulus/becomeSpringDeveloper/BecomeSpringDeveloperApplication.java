@@ -2,9 +2,12 @@ package com.patulus.becomeSpringDeveloper;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 
 @SpringBootApplication
+// @ConfigurationProperties가 붙은 설정 클래스를 찾아 빈으로 등록
+@ConfigurationPropertiesScan
 public class BecomeSpringDeveloperApplication {
 
 	public static void main(String[] args) {
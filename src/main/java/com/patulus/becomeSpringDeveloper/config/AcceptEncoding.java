@@ -0,0 +1,41 @@
+package com.patulus.becomeSpringDeveloper.config;
+
+// Accept-Encoding 요청 헤더 해석
+public final class AcceptEncoding {
+
+    private AcceptEncoding() {
+    }
+
+    // Accept-Encoding에 coding이 있고 q=0으로 거부하지 않았는지 확인
+    // coding이 직접 적혀 있으면 그 값을 따르고, 없을 때만 *의 값을 따름 (예: "*;q=0, gzip"은 gzip을 받음)
+    public static boolean accepts(String acceptEncoding, String coding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+
+        boolean wildcard = false;
+        for (String token : acceptEncoding.split(",")) {
+            String[] parts = token.trim().split(";");
+            String name = parts[0].trim();
+            if (name.equalsIgnoreCase(coding)) {
+                return !isRejected(parts);
+            }
+            if (name.equals("*")) {
+                wildcard = !isRejected(parts);
+            }
+        }
+
+        return wildcard;
+    }
+
+    private static boolean isRejected(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            if (parts[i].trim().matches("q=0(\\.0{0,3})?")) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+}
@@ -0,0 +1,17 @@
+package com.patulus.becomeSpringDeveloper.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+// 글 대량 등록과 미리보기 채우기(ArticleExcerptBackfill) 설정 (application.yml의 blog.batch.article 하위 값과 매핑)
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "blog.batch.article")
+public class ArticleBatchProperties {
+
+    // 한 트랜잭션에서 저장(또는 미리보기를 채울) 글 수
+    // 청크마다 커밋하고 영속성 컨텍스트를 비우므로 요청 전체 크기와 관계없이 메모리 사용량이 일정함
+    private int chunkSize = 500;
+
+}
@@ -0,0 +1,31 @@
+package com.patulus.becomeSpringDeveloper.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+// 글 단건 조회 캐시 설정 (application.yml의 blog.cache.article 하위 값과 매핑)
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "blog.cache.article")
+public class ArticleCacheProperties {
+
+    // 캐시에 보관할 최대 글 수, 넘으면 자주 쓰이지 않는 글부터 제거
+    private long maximumSize = 10_000;
+
+    // 캐시에 저장된 뒤 이 시간이 지나면 만료
+    private Duration timeToLive = Duration.ofMinutes(10);
+
+    // 만료된 뒤에도 이 시간 동안은 이전 값을 바로 반환하고 뒤에서 새로 읽음 (stale-while-revalidate)
+    private Duration staleWhileRevalidate = Duration.ofMinutes(1);
+
+    // 만료 전에 확률적으로 미리 새로 읽는 정도 (XFetch의 beta), 클수록 일찍 읽고 0이면 미리 읽지 않음
+    // 읽는 데 오래 걸린 글일수록, 만료 시각에 가까울수록 미리 읽을 확률이 높아짐
+    private double earlyExpiryBeta = 1.0;
+
+    // 뒤에서 글을 새로 읽는 스레드 수
+    private int refreshThreads = 2;
+
+}
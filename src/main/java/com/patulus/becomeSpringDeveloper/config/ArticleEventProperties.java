@@ -0,0 +1,34 @@
+package com.patulus.becomeSpringDeveloper.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+// 글 변경 이벤트 스트림(SSE) 설정 (application.yml의 blog.events 하위 값과 매핑)
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "blog.events")
+public class ArticleEventProperties {
+
+    // 재연결한 클라이언트에게 다시 보낼 수 있도록 보관하는 최근 이벤트 수 (Last-Event-ID 이어 받기)
+    private int replaySize = 1000;
+
+    // 구독자마다 아직 보내지 못한 이벤트를 쌓아 둘 수 있는 수, 넘으면 가장 오래된 이벤트부터 버림
+    private int subscriberBufferSize = 256;
+
+    // 동시에 연결할 수 있는 최대 구독자 수, 넘으면 503으로 거절
+    private int maxSubscribers = 10_000;
+
+    // 구독자에게 이벤트를 써 주는 스레드 수 (구독자마다 스레드를 두지 않음)
+    private int dispatcherThreads = 2;
+
+    // 한 번의 전송이 이보다 오래 끝나지 않거나, 대기열이 넘친 뒤 이 시간 안에 비워지지 않으면 느린 구독자로 보고 연결을 끊음
+    // 클라이언트는 Last-Event-ID로 재연결해 이어 받거나 reset 이벤트를 받아 목록을 새로 읽음
+    private Duration sendTimeout = Duration.ofSeconds(10);
+
+    // 이 시간이 지나면 연결을 끊고, 클라이언트(EventSource)는 Last-Event-ID를 보내며 자동으로 재연결
+    private Duration timeout = Duration.ofMinutes(30);
+
+}
@@ -0,0 +1,11 @@
+package com.patulus.becomeSpringDeveloper.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+// @Async 메서드를 스프링 부트의 applicationTaskExecutor에서 실행
+// spring.threads.virtual.enabled=true 이면 이 실행기가 가상 스레드를 사용함
+@EnableAsync
+@Configuration
+public class AsyncConfig {
+}
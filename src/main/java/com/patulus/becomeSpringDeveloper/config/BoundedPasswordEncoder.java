@@ -0,0 +1,71 @@
+package com.patulus.becomeSpringDeveloper.config;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+// 해싱(encode)과 비교(matches)를 크기가 정해진 전용 스레드 풀에서 실행하는 PasswordEncoder
+// 회원 가입이나 로그인이 몰려도 CPU를 많이 쓰는 BCrypt 계산은 스레드 수만큼만 동시에 실행되고,
+// 대기열까지 차면 기다리지 않고 PasswordHashingRejectedException으로 거절함
+public class BoundedPasswordEncoder implements PasswordEncoder, DisposableBean {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolTaskExecutor executor;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, ThreadPoolTaskExecutor executor) {
+        this.delegate = delegate;
+        this.executor = executor;
+    }
+
+    // 요청 스레드를 붙잡지 않고 해싱이 끝나면 이어서 처리할 수 있도록 CompletableFuture로 반환
+    public CompletableFuture<String> encodeAsync(CharSequence rawPassword) {
+        return submit(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return join(encodeAsync(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return join(submit(() -> delegate.matches(rawPassword, encodedPassword)));
+    }
+
+    // 해싱 없이 저장된 해시의 형식만 보므로 호출한 스레드에서 바로 실행
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    // 전용 스레드 풀은 이 인코더가 소유하므로 빈이 종료될 때 함께 종료
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, executor);
+        } catch (TaskRejectedException e) {
+            throw new PasswordHashingRejectedException("password hashing queue is full", e);
+        }
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+}
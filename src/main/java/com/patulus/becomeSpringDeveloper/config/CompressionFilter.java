@@ -0,0 +1,441 @@
+package com.patulus.becomeSpringDeveloper.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.WebUtils;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.Deflater;
+
+// 응답 본문을 gzip으로 압축해 전송하는 필터 (Accept-Encoding: gzip을 보낸 요청만)
+// Content-Type이 허용 목록에 있고 본문이 최소 크기 이상일 때만 압축하며, 이미 Content-Encoding이 있는 응답
+// (렌더링 캐시의 gzip 화면, 빌드 때 만든 .gz 정적 자원)은 그대로 보냄
+// 본문 길이를 미리 알 수 없는 응답은 최소 크기만큼 모아 본 뒤 압축 여부를 정함
+// Deflater와 버퍼는 GzipEncoderPool에서 빌려 쓰므로 응답마다 새로 만들지 않음
+@Component
+public class CompressionFilter extends OncePerRequestFilter {
+
+    // gzip 헤더: 매직 넘버, deflate 방식, 플래그/수정 시각/추가 플래그 없음, OS 알 수 없음(255)
+    private static final byte[] GZIP_HEADER = {0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff};
+
+    private final CompressionProperties properties;
+    private final List<MediaType> mimeTypes;
+    private final GzipEncoderPool pool;
+    private final int minResponseSize;
+
+    public CompressionFilter(CompressionProperties properties) {
+        this.properties = properties;
+        this.mimeTypes = MediaType.parseMediaTypes(properties.getMimeTypes());
+        this.minResponseSize = (int) properties.getMinResponseSize().toBytes();
+        int poolSize = properties.getPoolSize() > 0 ? properties.getPoolSize() : Runtime.getRuntime().availableProcessors() * 2;
+        this.pool = new GzipEncoderPool(poolSize, properties.getLevel(), Math.max(minResponseSize, 1));
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled()
+                || HttpMethod.HEAD.matches(request.getMethod())
+                || request.getHeader(HttpHeaders.RANGE) != null
+                || !AcceptEncoding.accepts(request.getHeader(HttpHeaders.ACCEPT_ENCODING), "gzip");
+    }
+
+    // 비동기 요청(CompletableFuture, StreamingResponseBody 등)은 마지막 비동기 디스패치가 끝난 뒤에 압축을 마무리
+    // 논블로킹 쓰기(WriteListener)를 쓰는 응답은 압축하지 않고 그대로 보냄
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        // 비동기 디스패치에서는 처음 디스패치 때 만든 래퍼가 response 안에 들어 있으므로 response를 그대로 넘김
+        // (래퍼를 꺼내 넘기면 그 바깥을 감싼 다른 필터의 래퍼를 건너뛰게 됨)
+        HttpServletResponse chainResponse = response;
+        CompressingResponseWrapper wrapper = WebUtils.getNativeResponse(response, CompressingResponseWrapper.class);
+        if (wrapper == null) {
+            if (isAsyncDispatch(request)) {
+                filterChain.doFilter(request, response);
+                return;
+            }
+            wrapper = new CompressingResponseWrapper(response);
+            chainResponse = wrapper;
+        }
+
+        try {
+            filterChain.doFilter(request, chainResponse);
+        } catch (IOException | ServletException | RuntimeException e) {
+            wrapper.abandon();
+            throw e;
+        }
+
+        if (!request.isAsyncStarted()) {
+            wrapper.finish();
+        }
+    }
+
+    private boolean isCompressible(String contentType) {
+        if (contentType == null) {
+            return false;
+        }
+        MediaType mediaType = MediaType.parseMediaType(contentType);
+        for (MediaType allowed : mimeTypes) {
+            if (allowed.includes(mediaType)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private enum State {
+        // 아직 본문을 쓰지 않음
+        UNDECIDED,
+        // 최소 크기에 이를 때까지 본문을 모으는 중
+        BUFFERING,
+        COMPRESSING,
+        PASSTHROUGH
+    }
+
+    private class CompressingResponseWrapper extends HttpServletResponseWrapper {
+
+        private final CompressingOutputStream outputStream = new CompressingOutputStream();
+        private PrintWriter writer;
+        // 압축 여부를 정하기 전까지는 Content-Length를 실제 응답에 넘기지 않고 보관
+        private long contentLength = -1;
+
+        private State state = State.UNDECIDED;
+        private GzipEncoderPool.Encoder encoder;
+        private int pendingCount;
+        private ServletOutputStream target;
+        // 논블로킹 쓰기 중이면 isReady()를 원래 스트림에 물어봄
+        private boolean nonBlocking;
+
+        CompressingResponseWrapper(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() {
+            return outputStream;
+        }
+
+        @Override
+        public PrintWriter getWriter() {
+            if (writer == null) {
+                String encoding = getCharacterEncoding();
+                Charset charset = encoding == null ? StandardCharsets.ISO_8859_1 : Charset.forName(encoding);
+                writer = new PrintWriter(new OutputStreamWriter(outputStream, charset));
+            }
+
+            return writer;
+        }
+
+        @Override
+        public void setContentLength(int len) {
+            setContentLengthLong(len);
+        }
+
+        @Override
+        public void setContentLengthLong(long len) {
+            if (state == State.PASSTHROUGH) {
+                super.setContentLengthLong(len);
+            } else {
+                contentLength = len;
+            }
+        }
+
+        @Override
+        public void setHeader(String name, String value) {
+            if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+                setContentLengthLong(Long.parseLong(value));
+            } else {
+                super.setHeader(name, value);
+            }
+        }
+
+        @Override
+        public void addHeader(String name, String value) {
+            if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+                setContentLengthLong(Long.parseLong(value));
+            } else {
+                super.addHeader(name, value);
+            }
+        }
+
+        @Override
+        public void setIntHeader(String name, int value) {
+            if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+                setContentLengthLong(value);
+            } else {
+                super.setIntHeader(name, value);
+            }
+        }
+
+        @Override
+        public void addIntHeader(String name, int value) {
+            if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+                setContentLengthLong(value);
+            } else {
+                super.addIntHeader(name, value);
+            }
+        }
+
+        // 모으던 본문은 아직 보내지 않았으므로 버리고 처음 상태로 돌아감
+        @Override
+        public void reset() {
+            super.reset();
+            discard();
+        }
+
+        @Override
+        public void resetBuffer() {
+            super.resetBuffer();
+            discard();
+        }
+
+        // 압축 중에 flush하면 지금까지 압축한 내용을 내보내고, 모으는 중이면 압축 여부를 정할 때까지 보내지 않음
+        @Override
+        public void flushBuffer() throws IOException {
+            flushWriter();
+            outputStream.flush();
+            if (state == State.COMPRESSING || state == State.PASSTHROUGH) {
+                super.flushBuffer();
+            }
+        }
+
+        void write(byte[] b, int off, int len) throws IOException {
+            if (state == State.UNDECIDED) {
+                decide();
+            }
+
+            switch (state) {
+                case PASSTHROUGH -> target().write(b, off, len);
+                case COMPRESSING -> deflate(b, off, len);
+                case BUFFERING -> {
+                    if (pendingCount + len <= encoder.pending.length) {
+                        System.arraycopy(b, off, encoder.pending, pendingCount, len);
+                        pendingCount += len;
+                    } else {
+                        startCompressing();
+                        deflate(encoder.pending, 0, pendingCount);
+                        deflate(b, off, len);
+                    }
+                }
+                default -> throw new IllegalStateException("unexpected state " + state);
+            }
+        }
+
+        void flush() throws IOException {
+            if (state == State.COMPRESSING) {
+                drain(Deflater.SYNC_FLUSH);
+                target().flush();
+            } else if (state == State.PASSTHROUGH) {
+                target().flush();
+            }
+        }
+
+        // 본문 쓰기가 모두 끝난 뒤 호출, 모으던 본문은 압축하지 않고 보내고 압축 중이면 gzip 트레일러를 씀
+        void finish() throws IOException {
+            flushWriter();
+            try {
+                if (state == State.BUFFERING) {
+                    super.setContentLengthLong(pendingCount);
+                    target().write(encoder.pending, 0, pendingCount);
+                } else if (state == State.COMPRESSING) {
+                    encoder.deflater.finish();
+                    while (!encoder.deflater.finished()) {
+                        int length = encoder.deflater.deflate(encoder.output, 0, encoder.output.length);
+                        target().write(encoder.output, 0, length);
+                    }
+                    writeTrailer();
+                } else if (state == State.UNDECIDED && contentLength >= 0) {
+                    super.setContentLengthLong(contentLength);
+                }
+            } finally {
+                state = State.PASSTHROUGH;
+                abandon();
+            }
+        }
+
+        // 논블로킹 쓰기는 쓰기 가능할 때마다 조금씩 나눠 쓰므로 압축하지 않고 원래 스트림으로 그대로 보냄
+        // 이미 압축을 시작했거나 모아 둔 본문이 있으면 중간에 바꿀 수 없음
+        void setWriteListener(WriteListener writeListener) {
+            if (state == State.COMPRESSING || (state == State.BUFFERING && pendingCount > 0)) {
+                throw new IllegalStateException("non-blocking write must start before the response body is written");
+            }
+
+            state = State.PASSTHROUGH;
+            abandon();
+            if (contentLength >= 0) {
+                super.setContentLengthLong(contentLength);
+            }
+            try {
+                target().setWriteListener(writeListener);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            nonBlocking = true;
+        }
+
+        boolean isReady() {
+            return !nonBlocking || target.isReady();
+        }
+
+        // 압축기를 풀에 돌려줌 (예외로 응답이 중단된 경우에도 호출)
+        void abandon() {
+            if (encoder != null) {
+                pool.release(encoder);
+                encoder = null;
+            }
+        }
+
+        private void decide() throws IOException {
+            String contentEncoding = getHeader(HttpHeaders.CONTENT_ENCODING);
+            int status = getStatus();
+            boolean compressible = contentEncoding == null
+                    && status != SC_NO_CONTENT && status != SC_NOT_MODIFIED && status != SC_PARTIAL_CONTENT
+                    && isCompressible(getContentType());
+
+            if (!compressible || (contentLength >= 0 && contentLength < minResponseSize)) {
+                state = State.PASSTHROUGH;
+                if (contentLength >= 0) {
+                    super.setContentLengthLong(contentLength);
+                }
+                return;
+            }
+
+            encoder = pool.borrow();
+            if (contentLength >= 0) {
+                startCompressing();
+            } else {
+                pendingCount = 0;
+                state = State.BUFFERING;
+            }
+        }
+
+        private void startCompressing() throws IOException {
+            state = State.COMPRESSING;
+            super.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            String vary = getHeader(HttpHeaders.VARY);
+            if (vary == null || !vary.contains(HttpHeaders.ACCEPT_ENCODING)) {
+                super.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            }
+            // 강한 ETag는 바이트 단위로 같은 응답에만 붙일 수 있으므로, 압축본과 원본이 같은 ETag를 갖지 않도록 약한 ETag로 바꿈
+            // (If-None-Match는 약한 비교를 하므로 조건부 요청은 그대로 304로 응답됨)
+            String eTag = getHeader(HttpHeaders.ETAG);
+            if (eTag != null && !eTag.startsWith("W/")) {
+                super.setHeader(HttpHeaders.ETAG, "W/" + eTag);
+            }
+            target().write(GZIP_HEADER);
+        }
+
+        private void deflate(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return;
+            }
+            encoder.crc.update(b, off, len);
+            encoder.deflater.setInput(b, off, len);
+            while (!encoder.deflater.needsInput()) {
+                int length = encoder.deflater.deflate(encoder.output, 0, encoder.output.length, Deflater.NO_FLUSH);
+                if (length > 0) {
+                    target().write(encoder.output, 0, length);
+                }
+            }
+        }
+
+        private void drain(int flush) throws IOException {
+            int length;
+            do {
+                length = encoder.deflater.deflate(encoder.output, 0, encoder.output.length, flush);
+                target().write(encoder.output, 0, length);
+            } while (length == encoder.output.length);
+        }
+
+        // gzip 트레일러: 원본의 CRC32와 원본 크기(하위 32비트), 리틀 엔디언
+        private void writeTrailer() throws IOException {
+            byte[] trailer = encoder.output;
+            writeIntLE(trailer, 0, (int) encoder.crc.getValue());
+            writeIntLE(trailer, 4, (int) encoder.deflater.getBytesRead());
+            target().write(trailer, 0, 8);
+        }
+
+        private void writeIntLE(byte[] b, int offset, int value) {
+            b[offset] = (byte) value;
+            b[offset + 1] = (byte) (value >> 8);
+            b[offset + 2] = (byte) (value >> 16);
+            b[offset + 3] = (byte) (value >> 24);
+        }
+
+        private void discard() {
+            abandon();
+            pendingCount = 0;
+            contentLength = -1;
+            state = State.UNDECIDED;
+        }
+
+        private void flushWriter() {
+            if (writer != null) {
+                writer.flush();
+            }
+        }
+
+        private ServletOutputStream target() throws IOException {
+            if (target == null) {
+                target = super.getOutputStream();
+            }
+
+            return target;
+        }
+
+        private class CompressingOutputStream extends ServletOutputStream {
+
+            private final byte[] single = new byte[1];
+
+            @Override
+            public void write(int b) throws IOException {
+                single[0] = (byte) b;
+                write(single, 0, 1);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                CompressingResponseWrapper.this.write(b, off, len);
+            }
+
+            @Override
+            public void flush() throws IOException {
+                CompressingResponseWrapper.this.flush();
+            }
+
+            @Override
+            public boolean isReady() {
+                return CompressingResponseWrapper.this.isReady();
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+                CompressingResponseWrapper.this.setWriteListener(writeListener);
+            }
+
+        }
+
+    }
+
+}
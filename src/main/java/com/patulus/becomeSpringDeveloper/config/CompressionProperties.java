@@ -0,0 +1,31 @@
+package com.patulus.becomeSpringDeveloper.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 응답 본문 gzip 압축 설정 (application.yml의 blog.compression 하위 값과 매핑)
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "blog.compression")
+public class CompressionProperties {
+
+    private boolean enabled = true;
+
+    // 이보다 작은 응답은 압축 헤더/트레일러와 CPU 비용에 비해 이득이 적으므로 그대로 전송
+    private DataSize minResponseSize = DataSize.ofKilobytes(1);
+
+    // 압축할 응답의 Content-Type, 이미 압축된 형식(이미지 등)과 실시간 전송(text/event-stream)은 넣지 않음
+    private List<String> mimeTypes = new ArrayList<>();
+
+    // 압축 수준 (1: 가장 빠름 ~ 9: 가장 작음)
+    private int level = 6;
+
+    // 재사용할 압축기(Deflater와 버퍼) 수, 0이면 CPU 코어 수의 두 배
+    private int poolSize = 0;
+
+}
@@ -0,0 +1,14 @@
+package com.patulus.becomeSpringDeveloper.config;
+
+import java.sql.SQLTransientConnectionException;
+
+// 커넥션 대기 요청이 너무 많거나 제한 시간 안에 커넥션을 얻지 못해 요청을 거절할 때 발생
+public class ConnectionLimitExceededException extends SQLTransientConnectionException {
+
+    private static final long serialVersionUID = 1L;
+
+    public ConnectionLimitExceededException(String message) {
+        super(message);
+    }
+
+}
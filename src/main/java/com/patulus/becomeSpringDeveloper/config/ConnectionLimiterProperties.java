@@ -0,0 +1,21 @@
+package com.patulus.becomeSpringDeveloper.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+// 가상 스레드 모드에서 DB 커넥션 풀 앞에 두는 동시성 제한 설정 (application.yml의 blog.datasource.limiter 하위 값과 매핑)
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "blog.datasource.limiter")
+public class ConnectionLimiterProperties {
+
+    // 커넥션을 기다릴 수 있는 최대 요청 수, 넘으면 기다리지 않고 바로 거절
+    private int maxWaiting = 200;
+
+    // 커넥션을 기다리는 최대 시간
+    private Duration acquireTimeout = Duration.ofSeconds(2);
+
+}
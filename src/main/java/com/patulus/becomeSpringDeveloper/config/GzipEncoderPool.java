@@ -0,0 +1,54 @@
+package com.patulus.becomeSpringDeveloper.config;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+// 응답 압축에 쓰는 Deflater와 버퍼를 재사용하는 풀
+// GZIPOutputStream은 응답마다 Deflater(네이티브 메모리 포함)와 버퍼를 새로 만들므로, 미리 만든 것을 빌려 쓰고 돌려받음
+// 풀이 비어 있으면 새로 만들고, 돌려받을 때 풀이 가득 차 있으면 네이티브 메모리를 바로 해제함
+final class GzipEncoderPool {
+
+    static final class Encoder {
+
+        final Deflater deflater;
+        final CRC32 crc = new CRC32();
+        // 압축할지 정하기 전까지 본문을 모아 두는 버퍼 (최소 압축 크기만큼)
+        final byte[] pending;
+        // Deflater가 압축한 결과를 받아 응답으로 내보내는 버퍼
+        final byte[] output = new byte[8 * 1024];
+
+        private Encoder(int level, int pendingSize) {
+            // nowrap: zlib 헤더 없이 deflate 데이터만 만들고 gzip 헤더/트레일러는 직접 씀
+            this.deflater = new Deflater(level, true);
+            this.pending = new byte[pendingSize];
+        }
+
+    }
+
+    private final BlockingQueue<Encoder> idle;
+    private final int level;
+    private final int pendingSize;
+
+    GzipEncoderPool(int size, int level, int pendingSize) {
+        this.idle = new ArrayBlockingQueue<>(size);
+        this.level = level;
+        this.pendingSize = pendingSize;
+    }
+
+    Encoder borrow() {
+        Encoder encoder = idle.poll();
+
+        return encoder == null ? new Encoder(level, pendingSize) : encoder;
+    }
+
+    void release(Encoder encoder) {
+        encoder.deflater.reset();
+        encoder.crc.reset();
+        if (!idle.offer(encoder)) {
+            encoder.deflater.end();
+        }
+    }
+
+}
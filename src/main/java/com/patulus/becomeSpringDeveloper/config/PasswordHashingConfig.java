@@ -0,0 +1,72 @@
+package com.patulus.becomeSpringDeveloper.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Map;
+
+@Slf4j
+@Configuration
+public class PasswordHashingConfig {
+
+    private static final String BCRYPT_ID = "bcrypt";
+    private static final String CALIBRATION_SAMPLE = "calibration-sample-password";
+
+    // 비밀번호 해싱 전용 스레드 풀
+    // 대기열이 가득 차면 TaskRejectedException을 던져(기본 AbortPolicy) 호출한 쪽이 503으로 응답할 수 있게 함
+    // Executor 타입의 빈이 있으면 스프링 부트가 applicationTaskExecutor(@Async, MVC 비동기 요청용)를 만들지 않으므로
+    // 빈으로 등록하지 않고 BoundedPasswordEncoder가 소유하며 종료할 때 함께 정리함
+    private static ThreadPoolTaskExecutor passwordHashingExecutor(PasswordHashingProperties properties) {
+        int threads = properties.getThreads() > 0 ? properties.getThreads() : Runtime.getRuntime().availableProcessors();
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(properties.getQueueCapacity());
+        executor.setThreadNamePrefix("password-hashing-");
+        executor.initialize();
+        return executor;
+    }
+
+    // 패스워드 인코더를 빈으로 등록
+    // 새 비밀번호는 {bcrypt} 접두사를 붙여 저장하고, 접두사가 없는 이전 해시도 BCrypt로 비교함
+    // 저장된 해시의 알고리즘이나 강도가 현재 설정과 다르면 upgradeEncoding()이 true를 반환해 로그인할 때 다시 해싱됨
+    @Bean
+    public BoundedPasswordEncoder passwordEncoder(PasswordHashingProperties properties) {
+        int strength = calibrateStrength(properties);
+
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder(BCRYPT_ID,
+                Map.<String, PasswordEncoder>of(BCRYPT_ID, new BCryptPasswordEncoder(strength)));
+        delegating.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder(strength));
+
+        return new BoundedPasswordEncoder(delegating, passwordHashingExecutor(properties));
+    }
+
+    // BCrypt는 강도가 1 오를 때마다 계산량이 두 배가 되므로, 최소 강도에서 한 번 측정한 시간을 두 배씩 늘려가며
+    // 목표 시간을 넘지 않는 가장 높은 강도를 고름 (서버 성능에 맞춰 해싱 비용을 정함)
+    private static int calibrateStrength(PasswordHashingProperties properties) {
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(properties.getMinStrength());
+        // 첫 호출은 클래스 로딩과 JIT 컴파일 시간이 섞이므로 버림
+        probe.encode(CALIBRATION_SAMPLE);
+
+        long startedAt = System.nanoTime();
+        probe.encode(CALIBRATION_SAMPLE);
+        long estimatedNanos = System.nanoTime() - startedAt;
+
+        int strength = properties.getMinStrength();
+        while (strength < properties.getMaxStrength() && estimatedNanos * 2 <= properties.getTargetLatency().toNanos()) {
+            strength++;
+            estimatedNanos *= 2;
+        }
+
+        log.info("bcrypt strength calibrated to {} (estimated {} ms per hash, target {} ms)",
+                strength, estimatedNanos / 1_000_000, properties.getTargetLatency().toMillis());
+        return strength;
+    }
+
+}
@@ -0,0 +1,28 @@
+package com.patulus.becomeSpringDeveloper.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+// 비밀번호 해싱 설정 (application.yml의 blog.security.password 하위 값과 매핑)
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "blog.security.password")
+public class PasswordHashingProperties {
+
+    // 시작할 때 BCrypt 해시 한 번이 이 시간 안에 끝나는 가장 높은 강도(cost)를 찾음
+    private Duration targetLatency = Duration.ofMillis(200);
+
+    // 측정 결과와 관계없이 지킬 최소/최대 강도 (10은 BCryptPasswordEncoder의 기본값)
+    private int minStrength = 10;
+    private int maxStrength = 14;
+
+    // 해싱 전용 스레드 수, 0이면 CPU 코어 수
+    private int threads = 0;
+
+    // 스레드가 모두 바쁠 때 기다릴 수 있는 해싱 작업 수, 넘으면 503으로 거절
+    private int queueCapacity = 100;
+
+}
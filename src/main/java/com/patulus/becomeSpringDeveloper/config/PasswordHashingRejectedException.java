@@ -0,0 +1,16 @@
+package com.patulus.becomeSpringDeveloper.config;
+
+import org.springframework.security.authentication.InternalAuthenticationServiceException;
+
+// 해싱 전용 스레드 풀과 대기열이 모두 차서 비밀번호 해싱을 거절할 때 발생
+// 로그인 중에 발생해도 인증 실패(401)가 아니라 서버 과부하(503)로 응답하도록 별도 예외로 구분함
+// InternalAuthenticationServiceException을 상속해 ProviderManager가 다른 인증 제공자로 재시도하지 않고 바로 던지게 함
+public class PasswordHashingRejectedException extends InternalAuthenticationServiceException {
+
+    private static final long serialVersionUID = 1L;
+
+    public PasswordHashingRejectedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+}
@@ -0,0 +1,62 @@
+package com.patulus.becomeSpringDeveloper.config;
+
+import io.r2dbc.h2.H2ConnectionConfiguration;
+import io.r2dbc.h2.H2ConnectionFactory;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import jakarta.annotation.PreDestroy;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+// 논블로킹 읽기 API(/api/v2/articles)에서 사용할 R2DBC 설정
+// JPA(JDBC)와 같은 H2 인메모리 데이터베이스를 보도록 R2DBC 주소를 DataSource 주소에서 만들어 사용
+// 스프링 부트의 R2DBC 자동 구성은 꺼 둠 (application.yml의 spring.autoconfigure.exclude)
+//   - 자동 구성은 R2DBC용 인메모리 DB를 다른 이름으로 따로 만듦
+//   - ConnectionFactory 타입의 빈이 있으면 JDBC DataSource를 자동 구성하지 않음
+// 그래서 커넥션 풀은 빈으로 등록하지 않고 DatabaseClient 안에서만 사용
+@Configuration
+@EnableConfigurationProperties(R2dbcProperties.class)
+public class R2dbcConfig {
+
+    private static final String H2_JDBC_PREFIX = "jdbc:h2:";
+
+    private ConnectionPool connectionPool;
+
+    // 풀 크기, 유휴 시간 등은 스프링 부트의 spring.r2dbc.pool 설정을 그대로 사용
+    @Bean
+    public DatabaseClient databaseClient(DataSourceProperties dataSourceProperties, R2dbcProperties r2dbcProperties) {
+        String jdbcUrl = dataSourceProperties.determineUrl();
+        if (jdbcUrl == null || !jdbcUrl.startsWith(H2_JDBC_PREFIX)) {
+            throw new IllegalStateException("R2DBC read path supports H2 only: " + jdbcUrl);
+        }
+
+        H2ConnectionConfiguration configuration = H2ConnectionConfiguration.builder()
+                .url(jdbcUrl.substring(H2_JDBC_PREFIX.length()))
+                .username(dataSourceProperties.determineUsername())
+                .password(dataSourceProperties.determinePassword())
+                .build();
+
+        R2dbcProperties.Pool pool = r2dbcProperties.getPool();
+        connectionPool = new ConnectionPool(ConnectionPoolConfiguration.builder(new H2ConnectionFactory(configuration))
+                .name("r2dbc")
+                .initialSize(pool.getInitialSize())
+                .maxSize(pool.getMaxSize())
+                .maxIdleTime(pool.getMaxIdleTime())
+                .maxAcquireTime(pool.getMaxAcquireTime())
+                .build());
+
+        return DatabaseClient.create(connectionPool);
+    }
+
+    @PreDestroy
+    public void closeConnectionPool() {
+        if (connectionPool != null) {
+            connectionPool.dispose();
+        }
+    }
+
+}
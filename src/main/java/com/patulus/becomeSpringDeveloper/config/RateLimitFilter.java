@@ -0,0 +1,63 @@
+package com.patulus.becomeSpringDeveloper.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+// 스프링 시큐리티 필터 체인 안에서 요청 수를 제한하는 필터
+// 로그인한 사용자는 사용자 이름(이메일)으로, 그 외에는 IP로 구분함
+// 제한을 넘으면 429, 서버가 과부하 상태라 미리 거절하면 503으로 응답하고 둘 다 Retry-After를 붙임
+// 상태 확인처럼 제외한 경로(blog.rate-limit.excluded-patterns)는 거치지 않음
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimiter rateLimiter;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RateLimiter.Decision decision = rateLimiter.check(request, clientKey(request));
+
+        if (decision.result() != RateLimiter.Result.ALLOWED) {
+            HttpStatus status = decision.result() == RateLimiter.Result.REJECTED
+                    ? HttpStatus.TOO_MANY_REQUESTS : HttpStatus.SERVICE_UNAVAILABLE;
+            long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(decision.retryAfterNanos() + 999_999_999L));
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+            // sendError를 쓰면 /error로 다시 보내지고, 그 요청이 폼 로그인 체인에서 로그인 페이지로 이동(302)되면서 세션까지 만들어지므로 상태 코드만 설정
+            response.setStatus(status.value());
+            return;
+        }
+
+        long startedAt = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            rateLimiter.recordLatency(System.nanoTime() - startedAt);
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return rateLimiter.isExcluded(request);
+    }
+
+    private static String clientKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated() && !(authentication instanceof AnonymousAuthenticationToken)) {
+            return "user:" + authentication.getName();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+}
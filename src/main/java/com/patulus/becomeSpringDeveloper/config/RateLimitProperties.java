@@ -0,0 +1,62 @@
+package com.patulus.becomeSpringDeveloper.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+// 요청 수 제한과 과부하 시 요청 차단(load shedding) 설정 (application.yml의 blog.rate-limit 하위 값과 매핑)
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "blog.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    // 이 시간 동안 요청이 없던 클라이언트의 버킷은 메모리에서 제거 (다시 오면 가득 찬 버킷으로 시작)
+    private Duration idleTimeout = Duration.ofMinutes(10);
+
+    // 경로별 제한, 위에서부터 처음 일치하는 규칙 하나만 적용하고 일치하는 규칙이 없으면 제한하지 않음
+    private List<Route> routes = new ArrayList<>();
+
+    // 제한과 과부하 거절을 모두 적용하지 않는 경로 패턴 (예: /actuator/health), 처리 시간 평균에도 넣지 않음
+    private List<String> excludedPatterns = new ArrayList<>();
+
+    private Shedding shedding = new Shedding();
+
+    @Getter
+    @Setter
+    public static class Route {
+
+        // 경로 패턴 (예: /api/**)
+        private String pattern;
+
+        // HTTP 메서드, 비워 두면 모든 메서드
+        private String method;
+
+        // 버킷 크기, 한꺼번에 보낼 수 있는 최대 요청 수
+        private int capacity;
+
+        // 초당 다시 채워지는 요청 수 (평균 허용 속도)
+        private double refillPerSecond;
+
+    }
+
+    @Getter
+    @Setter
+    public static class Shedding {
+
+        private boolean enabled = true;
+
+        // 최근 요청 처리 시간의 지수 이동 평균이 이 값을 넘으면 과부하로 판단
+        private Duration latencyThreshold = Duration.ofSeconds(1);
+
+        // DB 커넥션을 기다리는 스레드 수가 이 값을 넘으면 과부하로 판단
+        private int dbWaitingThreshold = 20;
+
+    }
+
+}
@@ -0,0 +1,198 @@
+package com.patulus.becomeSpringDeveloper.config;
+
+import com.patulus.becomeSpringDeveloper.dto.RateLimitStatsResponse;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpMethod;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+// 클라이언트(로그인 사용자 또는 IP)와 경로 규칙별 토큰 버킷으로 요청 수를 제한하고, 서버가 과부하 상태이면 일부 요청을 미리 거절함
+// MeterBinder 빈이므로 허용/제한/과부하 거절 수와 버킷 수, 처리 시간 평균이 blog.rate-limit.* 지표로 자동 등록됨
+@Slf4j
+@Component
+public class RateLimiter implements MeterBinder {
+
+    // 최근 요청일수록 가중치를 크게 주는 지수 이동 평균의 가중치
+    private static final double LATENCY_EWMA_ALPHA = 0.05;
+    // 과부하여도 이 비율의 요청은 통과시켜 처리 시간 평균이 계속 갱신되게 함 (모두 거절하면 과부하가 풀린 것을 알 수 없음)
+    private static final double MAX_SHED_PROBABILITY = 0.9;
+
+    private final RateLimitProperties properties;
+    private final DataSource dataSource;
+    private final List<Rule> rules;
+    private final List<RequestMatcher> excluded;
+    private final ConcurrentHashMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final AtomicLong latencyEwmaNanos = new AtomicLong(Double.doubleToLongBits(0));
+
+    private final LongAdder allowed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder shed = new LongAdder();
+
+    public RateLimiter(RateLimitProperties properties, DataSource dataSource) {
+        this.properties = properties;
+        this.dataSource = dataSource;
+        this.rules = properties.getRoutes().stream()
+                .map(Rule::of)
+                .toList();
+        this.excluded = properties.getExcludedPatterns().stream()
+                .map(pattern -> (RequestMatcher) AntPathRequestMatcher.antMatcher(pattern))
+                .toList();
+    }
+
+    // 제외한 경로의 요청이면 true (RateLimitFilter가 제한 없이 통과시킴)
+    public boolean isExcluded(HttpServletRequest request) {
+        for (RequestMatcher matcher : excluded) {
+            if (matcher.matches(request)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 요청을 처리해도 되면 Decision.ALLOWED, 아니면 거절 사유와 다시 시도할 수 있는 시간을 반환
+    public Decision check(HttpServletRequest request, String clientKey) {
+        if (!properties.isEnabled()) {
+            return Decision.ALLOWED;
+        }
+
+        for (int i = 0; i < rules.size(); i++) {
+            Rule rule = rules.get(i);
+            if (!rule.matcher().matches(request)) {
+                continue;
+            }
+
+            long now = System.nanoTime();
+            // 규칙마다 버킷을 따로 두어 로그인 시도 제한이 API 조회 한도를 깎지 않게 함
+            TokenBucket bucket = buckets.computeIfAbsent(i + ":" + clientKey,
+                    key -> new TokenBucket(rule.capacity(), rule.refillPerSecond(), now));
+            long waitNanos = bucket.tryConsume(now);
+            if (waitNanos > 0) {
+                rejected.increment();
+                return Decision.rejected(waitNanos);
+            }
+            break;
+        }
+
+        if (shouldShed()) {
+            shed.increment();
+            return Decision.SHED;
+        }
+
+        allowed.increment();
+        return Decision.ALLOWED;
+    }
+
+    // 처리를 마친 요청의 처리 시간을 평균에 반영
+    public void recordLatency(long elapsedNanos) {
+        while (true) {
+            long current = latencyEwmaNanos.get();
+            double average = Double.longBitsToDouble(current);
+            double updated = average + LATENCY_EWMA_ALPHA * (elapsedNanos - average);
+            if (latencyEwmaNanos.compareAndSet(current, Double.doubleToLongBits(updated))) {
+                return;
+            }
+        }
+    }
+
+    // 처리 시간 평균이나 DB 커넥션 대기 스레드 수가 기준을 넘은 만큼의 확률로 요청을 거절
+    private boolean shouldShed() {
+        RateLimitProperties.Shedding shedding = properties.getShedding();
+        if (!shedding.isEnabled()) {
+            return false;
+        }
+
+        double latencyThreshold = shedding.getLatencyThreshold().toNanos();
+        double latencyOverload = (getLatencyEwmaNanos() - latencyThreshold) / latencyThreshold;
+        double dbOverload = (double) (getDbThreadsAwaiting() - shedding.getDbWaitingThreshold()) / shedding.getDbWaitingThreshold();
+        double overload = Math.max(latencyOverload, dbOverload);
+        if (overload <= 0) {
+            return false;
+        }
+
+        return ThreadLocalRandom.current().nextDouble() < Math.min(MAX_SHED_PROBABILITY, overload);
+    }
+
+    // 한동안 요청이 없던 클라이언트의 버킷 제거
+    @Scheduled(fixedDelayString = "${blog.rate-limit.eviction-interval:60000}")
+    public void evictIdleBuckets() {
+        long threshold = System.nanoTime() - properties.getIdleTimeout().toNanos();
+        int before = buckets.size();
+        buckets.values().removeIf(bucket -> bucket.getLastAccessNanos() < threshold);
+        log.debug("evicted {} idle rate limit buckets", before - buckets.size());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("blog.rate-limit.requests", allowed, LongAdder::sum).tag("result", "allowed").register(registry);
+        FunctionCounter.builder("blog.rate-limit.requests", rejected, LongAdder::sum).tag("result", "rejected").register(registry);
+        FunctionCounter.builder("blog.rate-limit.requests", shed, LongAdder::sum).tag("result", "shed").register(registry);
+        Gauge.builder("blog.rate-limit.buckets", buckets, ConcurrentHashMap::size).register(registry);
+        Gauge.builder("blog.rate-limit.latency.ewma", this, limiter -> limiter.getLatencyEwmaNanos() / 1_000_000_000d)
+                .baseUnit("seconds")
+                .register(registry);
+    }
+
+    public RateLimitStatsResponse stats() {
+        return new RateLimitStatsResponse(allowed.sum(), rejected.sum(), shed.sum(), buckets.size(),
+                getLatencyEwmaNanos() / 1_000_000d, getDbThreadsAwaiting());
+    }
+
+    private double getLatencyEwmaNanos() {
+        return Double.longBitsToDouble(latencyEwmaNanos.get());
+    }
+
+    // 커넥션 풀이 아직 시작되지 않았으면 기다리는 스레드도 없음
+    private int getDbThreadsAwaiting() {
+        try {
+            HikariPoolMXBean pool = dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean();
+            return pool == null ? 0 : pool.getThreadsAwaitingConnection();
+        } catch (SQLException e) {
+            return 0;
+        }
+    }
+
+    public record Decision(Result result, long retryAfterNanos) {
+
+        static final Decision ALLOWED = new Decision(Result.ALLOWED, 0);
+        static final Decision SHED = new Decision(Result.SHED, 1_000_000_000L);
+
+        static Decision rejected(long retryAfterNanos) {
+            return new Decision(Result.REJECTED, retryAfterNanos);
+        }
+
+    }
+
+    public enum Result {
+        ALLOWED, REJECTED, SHED
+    }
+
+    private record Rule(RequestMatcher matcher, int capacity, double refillPerSecond) {
+
+        static Rule of(RateLimitProperties.Route route) {
+            RequestMatcher matcher = StringUtils.hasText(route.getMethod())
+                    ? AntPathRequestMatcher.antMatcher(HttpMethod.valueOf(route.getMethod()), route.getPattern())
+                    : AntPathRequestMatcher.antMatcher(route.getPattern());
+            return new Rule(matcher, route.getCapacity(), route.getRefillPerSecond());
+        }
+
+    }
+
+}
@@ -0,0 +1,16 @@
+package com.patulus.becomeSpringDeveloper.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
+
+// 이미 있는 세션에서 인증 정보를 읽기만 하고, 세션을 새로 만들거나 인증 정보를 세션에 저장하지 않는 저장소
+// 토큰으로 인증한 API 요청이 세션을 만들지 않도록 하면서, 폼 로그인으로 세션을 가진 브라우저의 API 호출은 그대로 허용함
+public class ReadOnlyHttpSessionSecurityContextRepository extends HttpSessionSecurityContextRepository {
+
+    @Override
+    public void saveContext(SecurityContext context, HttpServletRequest request, HttpServletResponse response) {
+    }
+
+}
@@ -0,0 +1,74 @@
+package com.patulus.becomeSpringDeveloper.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.AbstractEntityManagerFactoryBean;
+
+import javax.sql.DataSource;
+
+// blog.datasource.replica.url을 지정하면 읽기 전용 트랜잭션은 복제본으로, 나머지는 원본으로 보냄
+// DataSource 빈을 직접 만들면 스프링 부트가 커넥션 풀을 자동으로 만들지 않으므로 원본 풀도 spring.datasource 설정으로 여기서 만듦
+// 두 풀 모두 빈으로 등록되어 커넥션 풀 지표와 가상 스레드 모드의 동시성 제한(VirtualThreadConfig)이 각각 적용됨
+@Configuration
+@ConditionalOnProperty(prefix = "blog.datasource.replica", name = "url")
+public class ReadReplicaConfig {
+
+    @Bean
+    @ConfigurationProperties(prefix = "spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+    }
+
+    @Bean
+    public HikariDataSource replicaDataSource(ReadReplicaProperties properties) {
+        HikariDataSource replica = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(properties.getUrl())
+                .username(properties.getUsername())
+                .password(properties.getPassword())
+                .build();
+        replica.setPoolName("replica");
+        replica.setMaximumPoolSize(properties.getMaximumPoolSize());
+        replica.setReadOnly(true);
+
+        return replica;
+    }
+
+    // JPA, Flyway, JdbcTemplate 등이 주입받는 DataSource
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                 ReadReplicaProperties properties) {
+        return new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(
+                primaryDataSource, replicaDataSource, properties.getReadYourWritesWindow()));
+    }
+
+    // 스프링 부트가 만드는 EntityManagerFactory(와 그것을 쓰는 트랜잭션 매니저)의 JpaDialect를 바꿔
+    // 읽기 전용 트랜잭션이 복제본에서 읽은 값을 2차 캐시에 넣지 않게 함
+    // 초기화(afterPropertiesSet) 전에 지정해야 JpaVendorAdapter의 기본 JpaDialect 대신 쓰임
+    @Bean
+    public static BeanPostProcessor replicaReadJpaDialectPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof AbstractEntityManagerFactoryBean entityManagerFactory) {
+                    entityManagerFactory.setJpaDialect(new ReplicaReadJpaDialect());
+                }
+                return bean;
+            }
+        };
+    }
+
+}
@@ -0,0 +1,30 @@
+package com.patulus.becomeSpringDeveloper.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+// 읽기 전용 복제본(replica) DB 설정 (application.yml의 blog.datasource.replica 하위 값과 매핑)
+// url을 지정한 경우에만 읽기/쓰기 분리를 켬 (ReadReplicaConfig)
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "blog.datasource.replica")
+public class ReadReplicaProperties {
+
+    // 복제본 JDBC 주소, 비워 두면 모든 작업이 spring.datasource 하나로 감
+    private String url;
+
+    private String username = "sa";
+
+    private String password = "";
+
+    // 복제본 커넥션 풀의 최대 커넥션 수
+    private int maximumPoolSize = 10;
+
+    // 사용자가 쓰기를 커밋한 뒤 이 시간 동안은 그 사용자의 읽기도 원본(primary)에서 함 (read-your-writes)
+    // 복제 지연보다 길게 잡아야 방금 쓴 내용이 복제본에 아직 없어 안 보이는 일이 없음
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+
+}
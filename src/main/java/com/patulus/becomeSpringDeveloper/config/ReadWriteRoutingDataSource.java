@@ -0,0 +1,104 @@
+package com.patulus.becomeSpringDeveloper.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+import java.util.function.Supplier;
+
+// 커넥션을 얻을 때마다 원본(primary)과 복제본(replica) 중 하나를 고르는 DataSource
+// - @Transactional(readOnly = true) 트랜잭션: 복제본, 단 최근에 쓰기를 커밋한 사용자는 원본 (read-your-writes)
+// - 그 밖의 트랜잭션이나 트랜잭션 밖의 작업: 원본
+// - readFromPrimary로 감싼 읽기: 원본 (여러 사용자가 함께 쓰는 캐시를 채우는 읽기, 복제본의 지연된 값이 캐시에 남지 않게 함)
+// 트랜잭션이 시작될 때는 아직 readOnly 여부가 등록되지 않았으므로 LazyConnectionDataSourceProxy로 감싸 첫 SQL을 실행할 때 고르게 해야 함
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route {
+        PRIMARY, REPLICA
+    }
+
+    // readFromPrimary 안에서 실행 중인 스레드 표시
+    private static final ThreadLocal<Boolean> PRIMARY_READ = new ThreadLocal<>();
+
+    // 최근에 쓰기를 커밋한 사용자 이름, 기간이 지나면 자동으로 제거됨
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica, Duration readYourWritesWindow) {
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(readYourWritesWindow)
+                .build();
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    // reader 안에서 얻는 커넥션은 읽기 전용 트랜잭션이어도 원본으로 보냄 (쓰기로 기록하지 않음)
+    // 커넥션은 첫 SQL을 실행할 때 고르므로 reader 밖에서 이미 커넥션을 얻은 트랜잭션에 참여하면 그 커넥션을 그대로 씀
+    // 복제본을 쓰지 않는 구성(ReadReplicaConfig가 없으면)에서는 reader를 그대로 실행하는 것과 같음
+    public static <T> T readFromPrimary(Supplier<T> reader) {
+        Boolean previous = PRIMARY_READ.get();
+        PRIMARY_READ.set(Boolean.TRUE);
+        try {
+            return reader.get();
+        } finally {
+            if (previous == null) {
+                PRIMARY_READ.remove();
+            }
+        }
+    }
+
+    @Override
+    protected Route determineCurrentLookupKey() {
+        String user = currentUser();
+
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            recordWriteOnCommit(user);
+            return Route.PRIMARY;
+        }
+
+        if (PRIMARY_READ.get() != null) {
+            return Route.PRIMARY;
+        }
+
+        if (user != null && recentWriters.getIfPresent(user) != null) {
+            return Route.PRIMARY;
+        }
+
+        return Route.REPLICA;
+    }
+
+    // 읽기 전용이 아닌 트랜잭션은 실제로 수정했는지와 관계없이 쓰기로 봄
+    // 커밋된 뒤부터 기간을 세므로 커밋이 늦어져도 기간이 줄지 않음
+    private void recordWriteOnCommit(String user) {
+        if (user == null || !TransactionSynchronizationManager.isActualTransactionActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                recentWriters.put(user, Boolean.TRUE);
+            }
+        });
+    }
+
+    // 로그인하지 않은 요청이나 요청 밖의 작업(스케줄러 등)은 사용자를 구분하지 않음
+    private static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+
+        return authentication.getName();
+    }
+
+}
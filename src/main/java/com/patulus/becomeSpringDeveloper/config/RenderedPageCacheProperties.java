@@ -0,0 +1,23 @@
+package com.patulus.becomeSpringDeveloper.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+// 렌더링된 글 화면(HTML) 캐시 설정 (application.yml의 blog.cache.page 하위 값과 매핑)
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "blog.cache.page")
+public class RenderedPageCacheProperties {
+
+    // 캐시에 보관할 HTML의 최대 총 크기(원본 + gzip), 넘으면 자주 쓰이지 않는 화면부터 제거
+    private DataSize maximumSize = DataSize.ofMegabytes(32);
+
+    // 저장할 때 gzip으로 압축한 본문도 함께 만들어 두고, gzip을 받는 브라우저에는 압축본을 그대로 전송
+    private boolean gzip = true;
+
+    // 이보다 작은 화면은 압축해도 이득이 적으므로 gzip 본을 만들지 않음
+    private DataSize gzipMinSize = DataSize.ofBytes(1024);
+
+}
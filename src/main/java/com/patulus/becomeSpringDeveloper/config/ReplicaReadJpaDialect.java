@@ -0,0 +1,48 @@
+package com.patulus.becomeSpringDeveloper.config;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionException;
+
+import java.sql.SQLException;
+
+// 복제본을 쓰는 구성에서 읽기 전용 트랜잭션은 2차 캐시를 읽기만 하고 채우지 않음 (CacheMode.GET)
+// 읽기 전용 트랜잭션은 복제본에서 읽을 수 있는데, 2차 캐시(영역: user, 쿼리 결과)는 모든 요청이 함께 쓰므로
+// 아직 복제되지 않은 이전 값을 넣으면 글을 수정한 사용자도 캐시에서 이전 값을 읽게 됨
+// 트랜잭션이 끝나면 원래 캐시 모드로 되돌림 (세션이 트랜잭션보다 오래 열려 있는 경우)
+public class ReplicaReadJpaDialect extends HibernateJpaDialect {
+
+    private record ReadOnlyTransactionData(Object transactionData, Session session, CacheMode previousCacheMode) {
+    }
+
+    @Override
+    public Object beginTransaction(EntityManager entityManager, TransactionDefinition definition)
+            throws PersistenceException, SQLException, TransactionException {
+        Object transactionData = super.beginTransaction(entityManager, definition);
+        if (!definition.isReadOnly()) {
+            return transactionData;
+        }
+
+        Session session = entityManager.unwrap(Session.class);
+        CacheMode previousCacheMode = session.getCacheMode();
+        session.setCacheMode(CacheMode.GET);
+
+        return new ReadOnlyTransactionData(transactionData, session, previousCacheMode);
+    }
+
+    @Override
+    public void cleanupTransaction(Object transactionData) {
+        if (transactionData instanceof ReadOnlyTransactionData readOnly) {
+            readOnly.session().setCacheMode(readOnly.previousCacheMode());
+            super.cleanupTransaction(readOnly.transactionData());
+            return;
+        }
+
+        super.cleanupTransaction(transactionData);
+    }
+
+}
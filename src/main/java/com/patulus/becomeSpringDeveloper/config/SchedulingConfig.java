@@ -0,0 +1,10 @@
+package com.patulus.becomeSpringDeveloper.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// @Scheduled 메서드 실행 (오래 쓰이지 않은 요청 제한 버킷 정리 등)
+@EnableScheduling
+@Configuration
+public class SchedulingConfig {
+}
@@ -0,0 +1,45 @@
+package com.patulus.becomeSpringDeveloper.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+// 하이버네이트 2차 캐시(엔티티/쿼리 결과 캐시)를 JCache 구현인 Caffeine으로 구성
+// 캐시 사용 여부와 영역 팩토리는 application.yml의 spring.jpa.properties.hibernate.cache에서 켜고, 여기서는 영역을 만든 캐시 매니저를 넘겨 줌
+@Configuration
+public class SecondLevelCacheConfig {
+
+    // 설정 값대로 영역을 미리 만들어 둔 캐시 매니저
+    // 같은 주소의 캐시 매니저는 JVM에서 하나만 만들어지므로, 테스트처럼 애플리케이션 컨텍스트가 여럿 떠도 서로 영역을 공유하거나 닫지 않도록 주소를 따로 씀
+    @Bean(destroyMethod = "close")
+    public CacheManager secondLevelCacheManager(SecondLevelCacheProperties properties) {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("blog-second-level-cache-" + UUID.randomUUID()), getClass().getClassLoader());
+
+        properties.getRegions().forEach((name, region) -> {
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            configuration.setMaximumSize(OptionalLong.of(region.getMaximumSize()));
+            if (region.getTimeToLive() != null) {
+                configuration.setExpireAfterWrite(OptionalLong.of(region.getTimeToLive().toNanos()));
+            }
+            cacheManager.createCache(name, configuration);
+        });
+
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheManagerCustomizer(CacheManager secondLevelCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+    }
+
+}
@@ -0,0 +1,33 @@
+package com.patulus.becomeSpringDeveloper.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// 하이버네이트 2차 캐시 영역별 설정 (application.yml의 blog.cache.second-level 하위 값과 매핑)
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "blog.cache.second-level")
+public class SecondLevelCacheProperties {
+
+    // 영역 이름(엔티티의 @Cache region, 쿼리 힌트의 캐시 영역)별 설정
+    // 여기에 없는 영역을 하이버네이트가 찾으면 시작할 때 실패하므로 빠뜨린 영역이 조용히 기본값으로 만들어지지 않음
+    private Map<String, Region> regions = new LinkedHashMap<>();
+
+    @Getter
+    @Setter
+    public static class Region {
+
+        // 영역에 보관할 최대 항목 수, 넘으면 자주 쓰이지 않는 항목부터 제거
+        private long maximumSize = 10_000;
+
+        // 저장된 뒤 이 시간이 지나면 만료, 비워 두면 만료하지 않음
+        private Duration timeToLive;
+
+    }
+
+}
@@ -0,0 +1,30 @@
+package com.patulus.becomeSpringDeveloper.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+// 하이버네이트가 실행하는 SQL 문마다 호출되어 현재 요청에서 실행한 SQL 문 수를 셈
+// 요청 처리 스레드별로 세므로 요청이 시작될 때 start(), 끝날 때 stop()을 호출해야 함 (SqlStatementMetricsFilter)
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<int[]> COUNT = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        int[] count = COUNT.get();
+        if (count != null) {
+            count[0]++;
+        }
+        return sql;
+    }
+
+    public void start() {
+        COUNT.set(new int[1]);
+    }
+
+    public int stop() {
+        int[] count = COUNT.get();
+        COUNT.remove();
+        return count == null ? 0 : count[0];
+    }
+
+}
@@ -0,0 +1,55 @@
+package com.patulus.becomeSpringDeveloper.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+// 요청 하나가 실행한 SQL 문 수를 blog.sql.statements 분포(uri, method 태그)로 기록
+// 같은 URI의 SQL 문 수가 갑자기 늘면 N+1 쿼리가 생긴 것이므로 지표와 경고 로그로 드러나게 함
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SqlStatementMetricsFilter extends OncePerRequestFilter {
+
+    // 요청 하나에서 이보다 많은 SQL 문을 실행하면 경고 로그를 남김
+    private static final int WARN_THRESHOLD = 20;
+
+    private final SqlStatementCounter sqlStatementCounter;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        sqlStatementCounter.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            int count = sqlStatementCounter.stop();
+            // 경로 변수별로 지표가 늘어나지 않도록 실제 경로 대신 매핑된 URI 패턴(/api/articles/{id})을 태그로 사용
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String uri = pattern == null ? "UNKNOWN" : pattern.toString();
+
+            DistributionSummary.builder("blog.sql.statements")
+                    .description("SQL statements executed per request")
+                    .tag("uri", uri)
+                    .tag("method", request.getMethod())
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)
+                    .record(count);
+            if (count > WARN_THRESHOLD) {
+                log.warn("{} {} executed {} SQL statements", request.getMethod(), uri, count);
+            }
+        }
+    }
+
+}
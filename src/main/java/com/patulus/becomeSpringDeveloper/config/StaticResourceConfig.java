@@ -0,0 +1,43 @@
+package com.patulus.becomeSpringDeveloper.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Duration;
+import java.util.regex.Pattern;
+
+// 정적 자원(/js, /css, /images)의 캐시 헤더 설정
+// 화면의 @{/js/article.js} 링크는 리소스 체인이 콘텐츠 해시를 붙인 이름(article-<md5>.js)으로 바꿔 주므로
+// 해시가 붙은 주소는 내용이 바뀌지 않음을 보장할 수 있어 1년 동안 다시 확인하지 않도록(immutable) 응답함
+// 해시가 없는 예전 주소로 요청하면 매번 Last-Modified로 재검증하도록 응답함
+@Configuration
+public class StaticResourceConfig implements WebMvcConfigurer {
+
+    private static final String[] STATIC_RESOURCE_PATTERNS = {"/js/**", "/css/**", "/images/**"};
+
+    // ContentVersionStrategy가 파일 이름 끝(확장자 앞)에 붙이는 "-" + MD5 해시
+    private static final Pattern FINGERPRINTED = Pattern.compile("-[0-9a-f]{32}\\.[^/]+$");
+
+    private static final String IMMUTABLE = CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable().getHeaderValue();
+    private static final String REVALIDATE = CacheControl.noCache().getHeaderValue();
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new HandlerInterceptor() {
+            @Override
+            public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+                boolean fingerprinted = FINGERPRINTED.matcher(request.getRequestURI()).find();
+                response.setHeader(HttpHeaders.CACHE_CONTROL, fingerprinted ? IMMUTABLE : REVALIDATE);
+
+                return true;
+            }
+        }).addPathPatterns(STATIC_RESOURCE_PATTERNS);
+    }
+
+}
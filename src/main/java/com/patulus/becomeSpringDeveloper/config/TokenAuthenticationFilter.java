@@ -0,0 +1,51 @@
+package com.patulus.becomeSpringDeveloper.config;
+
+import com.patulus.becomeSpringDeveloper.config.jwt.TokenProvider;
+import io.jsonwebtoken.JwtException;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+// 요청 헤더의 Authorization 키 값(Bearer 토큰)을 검증해 인증 정보를 시큐리티 컨텍스트에 저장하는 필터
+// 토큰이 없거나 유효하지 않으면(리프레시 토큰 포함) 인증 정보 없이 다음 필터로 넘기고, 인가 단계에서 401로 응답함
+@RequiredArgsConstructor
+public class TokenAuthenticationFilter extends OncePerRequestFilter {
+
+    private static final String TOKEN_PREFIX = "Bearer ";
+
+    private final TokenProvider tokenProvider;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        // 요청 헤더의 Authorization 키 값 조회
+        String authorizationHeader = request.getHeader(HttpHeaders.AUTHORIZATION);
+        // 가져온 값에서 접두사 제거
+        String token = getAccessToken(authorizationHeader);
+
+        if (token != null) {
+            try {
+                SecurityContextHolder.getContext().setAuthentication(tokenProvider.getAuthentication(token));
+            } catch (JwtException | IllegalArgumentException e) {
+                SecurityContextHolder.clearContext();
+            }
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private String getAccessToken(String authorizationHeader) {
+        if (authorizationHeader != null && authorizationHeader.startsWith(TOKEN_PREFIX)) {
+            return authorizationHeader.substring(TOKEN_PREFIX.length());
+        }
+        return null;
+    }
+
+}
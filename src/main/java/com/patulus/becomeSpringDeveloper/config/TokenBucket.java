@@ -0,0 +1,43 @@
+package com.patulus.becomeSpringDeveloper.config;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+// 토큰 버킷: 요청마다 토큰을 하나 꺼내고, 토큰은 시간이 지나면 정해진 속도로 다시 채워짐
+// 잠금 없이 현재 상태(남은 토큰, 마지막 충전 시각)를 불변 객체로 두고 compareAndSet으로 교체함
+final class TokenBucket {
+
+    private final double capacity;
+    private final double refillPerNano;
+    private final AtomicReference<State> state;
+    private volatile long lastAccessNanos;
+
+    TokenBucket(int capacity, double refillPerSecond, long nowNanos) {
+        this.capacity = capacity;
+        this.refillPerNano = refillPerSecond / 1_000_000_000d;
+        this.state = new AtomicReference<>(new State(capacity, nowNanos));
+        this.lastAccessNanos = nowNanos;
+    }
+
+    // 토큰을 꺼내면 0, 모자라면 토큰 하나가 채워질 때까지 기다려야 하는 시간(나노초)을 반환
+    long tryConsume(long nowNanos) {
+        lastAccessNanos = nowNanos;
+        while (true) {
+            State current = state.get();
+            double tokens = Math.min(capacity, current.tokens() + (nowNanos - current.refilledAt()) * refillPerNano);
+            if (tokens < 1) {
+                return (long) Math.ceil((1 - tokens) / refillPerNano);
+            }
+            if (state.compareAndSet(current, new State(tokens - 1, nowNanos))) {
+                return 0;
+            }
+        }
+    }
+
+    long getLastAccessNanos() {
+        return lastAccessNanos;
+    }
+
+    private record State(double tokens, long refilledAt) {
+    }
+
+}
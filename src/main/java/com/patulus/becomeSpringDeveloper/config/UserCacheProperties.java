@@ -0,0 +1,21 @@
+package com.patulus.becomeSpringDeveloper.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+// 로그인 사용자 캐시 설정 (application.yml의 blog.cache.user 하위 값과 매핑)
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "blog.cache.user")
+public class UserCacheProperties {
+
+    // 캐시에 보관할 최대 사용자 수, 넘으면 자주 쓰이지 않는 사용자부터 제거
+    private long maximumSize = 10_000;
+
+    // 캐시에 저장된 뒤 이 시간이 지나면 만료되어 다음 로그인 때 DB에서 다시 읽음
+    private Duration timeToLive = Duration.ofMinutes(5);
+
+}
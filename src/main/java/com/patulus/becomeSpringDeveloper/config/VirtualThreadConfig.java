@@ -0,0 +1,37 @@
+package com.patulus.becomeSpringDeveloper.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// spring.threads.virtual.enabled=true 이면 스프링 부트가 톰캣 요청 처리 스레드와 @Async/MVC 비동기 작업 실행기(applicationTaskExecutor)를
+// 플랫폼 스레드 풀 대신 가상 스레드로 바꿈
+// 이때 요청 스레드 수에 상한이 없어지므로, 커넥션 풀 앞에 동시성 제한을 둬 DB로 몰리는 요청 수를 풀 크기에 맞춤
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    // 풀 크기를 지정하지 않으면 HikariCP는 시작할 때 10으로 정하므로, 아직 정해지지 않은 경우(-1) 같은 값을 사용
+    private static final int HIKARI_DEFAULT_POOL_SIZE = 10;
+
+    @Bean
+    public static BeanPostProcessor connectionLimitingDataSourcePostProcessor(ObjectProvider<ConnectionLimiterProperties> properties) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource hikari) {
+                    ConnectionLimiterProperties limiter = properties.getObject();
+                    int poolSize = hikari.getMaximumPoolSize() > 0 ? hikari.getMaximumPoolSize() : HIKARI_DEFAULT_POOL_SIZE;
+                    return new ConnectionLimitingDataSource(hikari, poolSize,
+                            limiter.getMaxWaiting(), limiter.getAcquireTimeout());
+                }
+                return bean;
+            }
+        };
+    }
+
+}
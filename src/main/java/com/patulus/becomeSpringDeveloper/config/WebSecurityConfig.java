@@ -1,31 +1,111 @@
 package com.patulus.becomeSpringDeveloper.config;
 
 import static org.springframework.boot.autoconfigure.security.servlet.PathRequest.toH2Console;
+import static org.springframework.boot.autoconfigure.security.servlet.PathRequest.toStaticResources;
 
+import com.patulus.becomeSpringDeveloper.config.jwt.TokenProvider;
+import com.patulus.becomeSpringDeveloper.controller.OverloadExceptionHandler;
+import com.patulus.becomeSpringDeveloper.service.UserDetailsCache;
 import com.patulus.becomeSpringDeveloper.service.UserDetailsService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.WebSecurityCustomizer;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.AuthenticationFailureHandler;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
+import org.springframework.security.web.authentication.SimpleUrlAuthenticationFailureHandler;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
+import org.springframework.security.web.context.DelegatingSecurityContextRepository;
+import org.springframework.security.web.context.RequestAttributeSecurityContextRepository;
 
 @Configuration
 @RequiredArgsConstructor
 public class WebSecurityConfig {
     
     private final UserDetailsService userDetailsService;
+    private final TokenProvider tokenProvider;
+    private final RateLimiter rateLimiter;
     
     // 스프링 시큐리티 기능 비활성화
-    // 정적 리소스, h2-console 하위 URL을 대상으로 인증 및 인가 서비스를 적용하지 않음
+    // 정적 리소스를 대상으로 인증 및 인가 서비스를 적용하지 않음
     @Bean
     public WebSecurityCustomizer configure() {
         return (web) -> web.ignoring()
-            .requestMatchers(toH2Console())
-            .requestMatchers("/static/**");
+            .requestMatchers(toStaticResources().atCommonLocations());
+    }
+    
+    // H2 콘솔이 켜진 경우(local 프로필)에만 h2-console 하위 URL을 인증 대상에서 제외
+    // toH2Console()은 H2 콘솔 설정이 있어야 만들 수 있으므로 콘솔이 꺼져 있으면 이 빈도 만들지 않음
+    @Bean
+    @ConditionalOnProperty(prefix = "spring.h2.console", name = "enabled", havingValue = "true")
+    public WebSecurityCustomizer h2ConsoleSecurityCustomizer() {
+        return (web) -> web.ignoring()
+            .requestMatchers(toH2Console());
+    }
+    
+    // /api/** 요청에 대한 토큰 기반 보안 구성 (아래 폼 로그인 설정보다 먼저 적용)
+    // 세션을 만들지 않고 요청마다 Authorization 헤더의 액세스 토큰을 검증하므로 서버를 여러 대로 늘려도 스티키 세션이 필요 없음
+    @Bean
+    @Order(1)
+    public SecurityFilterChain apiFilterChain(HttpSecurity http) throws Exception {
+        return http
+            .securityMatcher("/api/**")
+            // 토큰 발급 요청은 인증 없이 접근할 수 있음
+            .authorizeHttpRequests((authorize) -> authorize.requestMatchers("/api/token", "/api/token/refresh").permitAll()
+                .anyRequest().authenticated())
+            // 세션을 만들지도, 인증 정보를 세션에 저장하지도 않음
+            .sessionManagement((session) -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+            // 브라우저 화면(article.js)은 폼 로그인으로 이미 만든 세션으로 API를 호출하므로, 세션이 있으면 읽기만 함
+            .securityContext((context) -> context.securityContextRepository(new DelegatingSecurityContextRepository(
+                new RequestAttributeSecurityContextRepository(), new ReadOnlyHttpSessionSecurityContextRepository())))
+            // 헤더의 토큰을 확인하는 필터 추가
+            .addFilterBefore(new TokenAuthenticationFilter(tokenProvider), UsernamePasswordAuthenticationFilter.class)
+            // 토큰으로 사용자를 확인한 다음 사용자별(없으면 IP별)로 요청 수 제한
+            .addFilterAfter(new RateLimitFilter(rateLimiter), TokenAuthenticationFilter.class)
+            // 인증되지 않은 API 요청은 로그인 페이지로 보내지 않고 401로 응답
+            .exceptionHandling((exception) -> exception.authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED)))
+            .csrf(AbstractHttpConfigurer::disable)
+            .httpBasic(AbstractHttpConfigurer::disable)
+            .formLogin(AbstractHttpConfigurer::disable)
+            .logout(AbstractHttpConfigurer::disable)
+            .build();
+    }
+    
+    // 액추에이터 엔드포인트(/actuator/**)에 대한 보안 구성 (아래 폼 로그인 설정보다 먼저 적용)
+    // 상태 확인(health)만 로그인 없이 허용하고, 지표(prometheus)에는 요청 경로, 사용자 수, 풀 상태 같은 내부 정보가 담겨 있으므로 인증을 요구함
+    // 프로메테우스 서버는 폼 로그인을 할 수 없으므로 수집용 계정을 HTTP Basic(basic_auth)으로 보내 인증
+    @Bean
+    @Order(2)
+    public SecurityFilterChain actuatorFilterChain(HttpSecurity http) throws Exception {
+        return http
+            .securityMatcher("/actuator/**")
+            .authorizeHttpRequests((authorize) -> authorize.requestMatchers("/actuator/health", "/actuator/health/**").permitAll()
+                .anyRequest().authenticated())
+            // 수집 요청마다 인증하므로 세션을 만들지 않음
+            .sessionManagement((session) -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+            // 비밀번호 대입을 막도록 인증 전에 IP별로 요청 수 제한
+            .addFilterBefore(new RateLimitFilter(rateLimiter), BasicAuthenticationFilter.class)
+            // 인증되지 않은 요청은 401과 WWW-Authenticate 헤더로 응답
+            // (기본 진입점은 sendError를 써서 /error로 다시 보내지고, 그 요청이 로그인 페이지로 이동(302)되므로 상태 코드만 설정)
+            .httpBasic((basic) -> basic.authenticationEntryPoint((request, response, authException) -> {
+                response.setHeader(HttpHeaders.WWW_AUTHENTICATE, "Basic realm=\"actuator\"");
+                response.setStatus(HttpStatus.UNAUTHORIZED.value());
+            }))
+            .csrf(AbstractHttpConfigurer::disable)
+            .formLogin(AbstractHttpConfigurer::disable)
+            .logout(AbstractHttpConfigurer::disable)
+            .build();
     }
     
     // 특정 HTTP 요청에 대한 웹 기반 보안 구성
@@ -35,10 +115,13 @@ public class WebSecurityConfig {
             // login, singup, user 페이지로 요청이 오면 인증 및 인가가 없어도 접속할 수 있음
             .authorizeHttpRequests((authorize) -> authorize.requestMatchers("/login", "/signup", "user").permitAll()
                 .anyRequest().authenticated())
+            // 로그인 처리 필터보다 앞에 두어 로그인 시도(POST /login)도 IP별로 제한, 세션으로 로그인한 사용자는 사용자별로 제한
+            .addFilterBefore(new RateLimitFilter(rateLimiter), UsernamePasswordAuthenticationFilter.class)
             // 폼 기반 로그인 설정
             // 로그인 페이지 경로 설정 및 로그인 성공 시 이동할 페이지 설정
             .formLogin((form) -> form.loginPage("/login")
-                .defaultSuccessUrl("/articles"))
+                .defaultSuccessUrl("/articles")
+                .failureHandler(loginFailureHandler()))
             // 로그아웃 성공 시 이동할 페이지 설정 및 로그아웃 이후 세션 삭제 여부 설정
             .logout((logout) -> logout.logoutSuccessUrl("/login").invalidateHttpSession(true))
             // CSRF 설정 비활성화
@@ -49,21 +132,37 @@ public class WebSecurityConfig {
     
     // 인증 관리자 관련 설정
     @Bean
-    public DaoAuthenticationProvider authenticationManager(UserDetailsService userDetailsService) throws Exception {
+    public DaoAuthenticationProvider authenticationManager(UserDetailsService userDetailsService, UserDetailsCache userDetailsCache,
+                                                           PasswordEncoder passwordEncoder) throws Exception {
         DaoAuthenticationProvider daoAuthenticationProvider = new DaoAuthenticationProvider();
         // 사용자 서비스 설정
         // 이때 설정하는 서비스 클래스는 반드시 UserDetailsService를 상속받은 클래스여야 함
         daoAuthenticationProvider.setUserDetailsService(userDetailsService);
         // 비밀번호를 암호화하기 위한 인코더 설정
-        daoAuthenticationProvider.setPasswordEncoder(bCryptPasswordEncoder());
+        // 인코더는 PasswordHashingConfig에서 등록 (해싱 전용 스레드 풀에서 실행되며 강도는 시작할 때 측정해 정함)
+        daoAuthenticationProvider.setPasswordEncoder(passwordEncoder);
+        // 저장된 해시의 알고리즘이나 강도가 현재 설정과 다르면 로그인에 성공했을 때 새 설정으로 다시 해싱해 저장
+        daoAuthenticationProvider.setUserDetailsPasswordService(userDetailsService);
+        // 로그인할 때마다 DB를 조회하지 않도록 사용자 캐시 설정
+        daoAuthenticationProvider.setUserCache(userDetailsCache);
         
         return daoAuthenticationProvider;
     }
     
-    // 패스워드 인코더를 빈으로 등록
-    @Bean
-    public BCryptPasswordEncoder bCryptPasswordEncoder() {
-        return new BCryptPasswordEncoder();
+    // 로그인 실패 시 이동할 페이지 설정
+    // 비밀번호 해싱 대기열이 가득 차 거절된 경우는 비밀번호가 틀린 것이 아니므로 503과 Retry-After로 응답
+    // (sendError를 쓰면 /error로 다시 보내져 로그인 페이지로 이동(302)되므로 상태 코드만 설정)
+    private AuthenticationFailureHandler loginFailureHandler() {
+        AuthenticationFailureHandler defaultHandler = new SimpleUrlAuthenticationFailureHandler("/login?error");
+        
+        return (request, response, exception) -> {
+            if (exception instanceof PasswordHashingRejectedException) {
+                response.setHeader(HttpHeaders.RETRY_AFTER, OverloadExceptionHandler.RETRY_AFTER_SECONDS);
+                response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+                return;
+            }
+            defaultHandler.onAuthenticationFailure(request, response, exception);
+        };
     }
     
 }
@@ -0,0 +1,27 @@
+package com.patulus.becomeSpringDeveloper.config.jwt;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+// 토큰 발급과 검증에 쓰는 설정 (application.yml의 jwt 하위 값과 매핑)
+@Getter
+@Setter
+@ConfigurationProperties("jwt")
+public class JwtProperties {
+
+    // 토큰 발급자 (iss 클레임)
+    private String issuer;
+
+    // HS256 서명 키, 32바이트(256비트) 이상이어야 함
+    private String secretKey;
+
+    // 액세스 토큰은 요청마다 DB 조회 없이 서명만 검증하므로 탈취되었을 때의 피해를 줄이기 위해 유효 기간을 짧게 둠
+    private Duration accessTokenTtl = Duration.ofMinutes(30);
+
+    // 리프레시 토큰은 DB에 저장해 새 액세스 토큰을 발급할 때만 확인함
+    private Duration refreshTokenTtl = Duration.ofDays(14);
+
+}
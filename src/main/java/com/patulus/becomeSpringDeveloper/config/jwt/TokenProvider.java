@@ -0,0 +1,110 @@
+package com.patulus.becomeSpringDeveloper.config.jwt;
+
+import com.patulus.becomeSpringDeveloper.domain.User;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+// JWT를 만들고 검증하는 클래스
+// 서명 키와 파서는 요청마다 만들지 않고 한 번만 만들어 재사용 (JwtParser는 불변이라 여러 스레드가 공유해도 안전함)
+// 액세스 토큰과 리프레시 토큰은 token_type 클레임으로 구분하고, 종류마다 그 클레임을 요구하는 파서를 따로 둠
+// (유효 기간이 긴 리프레시 토큰을 액세스 토큰 대신 쓰거나, 그 반대로 쓰는 것을 막음)
+@Service
+public class TokenProvider {
+
+    private static final String ID_CLAIM = "id";
+    private static final String TOKEN_TYPE_CLAIM = "token_type";
+    private static final List<GrantedAuthority> AUTHORITIES = List.of(new SimpleGrantedAuthority("user"));
+
+    private final JwtProperties jwtProperties;
+    private final SecretKey key;
+    private final Map<TokenType, JwtParser> parsers = new EnumMap<>(TokenType.class);
+
+    public TokenProvider(JwtProperties jwtProperties) {
+        this.jwtProperties = jwtProperties;
+        this.key = Keys.hmacShaKeyFor(jwtProperties.getSecretKey().getBytes(StandardCharsets.UTF_8));
+        for (TokenType type : TokenType.values()) {
+            parsers.put(type, Jwts.parser()
+                    .verifyWith(key)
+                    .requireIssuer(jwtProperties.getIssuer())
+                    .require(TOKEN_TYPE_CLAIM, type.getClaimValue())
+                    .build());
+        }
+    }
+
+    public String generateToken(User user, Duration expiredAt, TokenType type) {
+        Date now = new Date();
+        return makeToken(new Date(now.getTime() + expiredAt.toMillis()), user, type);
+    }
+
+    // JWT 토큰 생성
+    private String makeToken(Date expiry, User user, TokenType type) {
+        Date now = new Date();
+
+        return Jwts.builder()
+                // 헤더 typ: JWT
+                .header().type("JWT").and()
+                // 내용 iss: application.yml에서 설정한 값
+                .issuer(jwtProperties.getIssuer())
+                // 내용 iat: 현재 시간
+                .issuedAt(now)
+                // 내용 exp: expiry 멤버 변숫값
+                .expiration(expiry)
+                // 내용 sub: 유저의 이메일
+                .subject(user.getEmail())
+                // 클레임 id: 유저 ID
+                .claim(ID_CLAIM, user.getId())
+                // 클레임 token_type: 액세스 토큰(access) 또는 리프레시 토큰(refresh)
+                .claim(TOKEN_TYPE_CLAIM, type.getClaimValue())
+                // 서명: 비밀값과 함께 해시값을 HS256 방식으로 암호화
+                .signWith(key, Jwts.SIG.HS256)
+                .compact();
+    }
+
+    // JWT 토큰 유효성 검증 (서명, 발급자, 만료 시간, 토큰 종류)
+    public boolean validToken(String token, TokenType type) {
+        try {
+            getClaims(token, type);
+            return true;
+        } catch (JwtException | IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    // 액세스 토큰 기반으로 인증 정보를 가져오는 메서드
+    // 토큰에 담긴 이메일과 권한만으로 인증 정보를 만들므로 DB를 조회하지 않음
+    // 토큰이 유효하지 않거나 액세스 토큰이 아니면 JwtException 발생
+    public Authentication getAuthentication(String token) {
+        Claims claims = getClaims(token, TokenType.ACCESS);
+
+        return new UsernamePasswordAuthenticationToken(
+                new org.springframework.security.core.userdetails.User(claims.getSubject(), "", AUTHORITIES),
+                token, AUTHORITIES);
+    }
+
+    // 토큰 기반으로 유저 ID를 가져오는 메서드
+    public Long getUserId(String token, TokenType type) {
+        return getClaims(token, type).get(ID_CLAIM, Long.class);
+    }
+
+    private Claims getClaims(String token, TokenType type) {
+        return parsers.get(type).parseSignedClaims(token)
+                .getPayload();
+    }
+
+}
@@ -0,0 +1,19 @@
+package com.patulus.becomeSpringDeveloper.config.jwt;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 토큰 종류 (token_type 클레임 값)
+// 같은 키로 서명하므로 종류를 토큰에 적어 두고, 검증할 때 기대한 종류가 아니면 거절함
+@Getter
+@RequiredArgsConstructor
+public enum TokenType {
+
+    // API를 호출할 때 Authorization 헤더로 보내는 토큰 (유효 기간이 짧음)
+    ACCESS("access"),
+    // 새 액세스 토큰을 발급받을 때만 쓰는 토큰 (유효 기간이 김)
+    REFRESH("refresh");
+
+    private final String claimValue;
+
+}
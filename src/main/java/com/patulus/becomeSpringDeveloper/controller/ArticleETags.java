@@ -0,0 +1,36 @@
+package com.patulus.becomeSpringDeveloper.controller;
+
+import com.patulus.becomeSpringDeveloper.repository.ArticleListVersion;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+// 조건부 GET(If-None-Match / If-Modified-Since)에 사용할 ETag, Last-Modified 값 계산
+// 모두 updatedAt에서 만들어지므로 본문(content)을 읽지 않고도 변경 여부를 판단할 수 있음
+final class ArticleETags {
+
+    private ArticleETags() {
+    }
+
+    // 단건: 글 id와 마이크로초 단위 수정 시각으로 만든 강한(strong) ETag
+    static String forArticle(long id, LocalDateTime updatedAt) {
+        long micros = updatedAt.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + updatedAt.getNano() / 1_000;
+
+        return "\"" + id + "-" + Long.toHexString(micros) + "\"";
+    }
+
+    // 목록: 페이지 위치(cursor, size)와 전체 목록 버전(최근 수정 시각, 글 수)을 합쳐 만든 해시
+    static String forPage(String cursor, int size, ArticleListVersion version) {
+        String raw = cursor + "|" + size + "|" + version.getLastModified() + "|" + version.getCount();
+
+        return "\"" + DigestUtils.md5DigestAsHex(raw.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    static long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+}
@@ -1,22 +1,49 @@
 package com.patulus.becomeSpringDeveloper.controller;
 
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.patulus.becomeSpringDeveloper.domain.Article;
 import com.patulus.becomeSpringDeveloper.dto.AddArticleRequest;
+import com.patulus.becomeSpringDeveloper.dto.ArticleCacheStatsResponse;
+import com.patulus.becomeSpringDeveloper.dto.ArticlePageResponse;
 import com.patulus.becomeSpringDeveloper.dto.ArticleResponse;
+import com.patulus.becomeSpringDeveloper.dto.ArticleSearchResponse;
+import com.patulus.becomeSpringDeveloper.dto.BatchArticleResponse;
+import com.patulus.becomeSpringDeveloper.dto.InvalidCursorException;
+import com.patulus.becomeSpringDeveloper.dto.MostViewedArticleResponse;
 import com.patulus.becomeSpringDeveloper.dto.UpdateArticleRequest;
+import com.patulus.becomeSpringDeveloper.service.ArticleBatchService;
+import com.patulus.becomeSpringDeveloper.service.ArticleEventStream;
+import com.patulus.becomeSpringDeveloper.service.ArticleSearchService;
 import com.patulus.becomeSpringDeveloper.service.BlogService;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @RequiredArgsConstructor
 // HTTP Response Body에 객체 데이터를 JSON 형식으로 반환하는 컨트롤러
@@ -24,6 +51,10 @@ import java.util.List;
 public class BlogApiController {
 
     private final BlogService blogService;
+    private final ArticleBatchService articleBatchService;
+    private final ArticleSearchService articleSearchService;
+    private final ArticleEventStream articleEventStream;
+    private final ObjectMapper objectMapper;
 
     // HTTP 메서드가 POST일 때 전달받은 URL과 동일하면 메서드로 매핑
     @PostMapping("/api/articles")
@@ -37,23 +68,114 @@ public class BlogApiController {
                 .body(savedArticle);
     }
 
+    // 글 대량 등록: JSON 배열 또는 NDJSON(한 줄에 글 하나)을 받아 청크 단위로 JDBC 배치 저장
+    // 본문을 한 번에 역직렬화하지 않고 읽는 대로 저장하며, 항목별 결과와 처리량을 응답
+    @PostMapping(value = "/api/articles/batch", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<BatchArticleResponse> addArticles(HttpServletRequest request) throws IOException {
+        try (MappingIterator<AddArticleRequest> requests = objectMapper.readerFor(AddArticleRequest.class)
+                .readValues(request.getInputStream())) {
+            BatchArticleResponse result = articleBatchService.saveAll(requests);
+
+            return ResponseEntity.ok()
+                    .body(result);
+        }
+    }
+
+    // 전체 글을 한 번에 반환하지 않고 커서 기반으로 size개씩 반환
+    // 다음 페이지는 응답의 nextCursor 값을 cursor 파라미터로 전달해 조회
+    // 목록이 바뀌지 않았으면(If-None-Match 일치) 목록을 조회하지 않고 304 응답
     @GetMapping("/api/articles")
-    public ResponseEntity<List<ArticleResponse>> findAllArticles() {
-        List<ArticleResponse> articles = blogService.findAll()
-                .stream()
-                .map(ArticleResponse::new)
-                .toList();
+    public ResponseEntity<ArticlePageResponse> findAllArticles(@RequestParam(name = "cursor", required = false) String cursor,
+                                                               @RequestParam(name = "size", defaultValue = "" + BlogService.DEFAULT_PAGE_SIZE) int size,
+                                                               WebRequest request) {
+        String eTag = ArticleETags.forPage(cursor, size, blogService.findListVersion());
+        if (request.checkNotModified(eTag)) {
+            return notModified();
+        }
+
+        ArticlePageResponse articles = blogService.findPage(cursor, size);
 
         return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(eTag)
                 .body(articles);
     }
 
+    // 전체 글을 NDJSON(한 줄에 JSON 객체 하나) 형식으로 스트리밍
+    // 목록을 메모리에 만들지 않고 DB에서 읽는 즉시 응답으로 써서 글 수와 관계없이 메모리 사용량이 일정함
+    // StreamingResponseBody는 별도 스레드에서 실행되므로 요청 스레드를 점유하지 않음
+    @GetMapping(value = "/api/articles/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportArticles() {
+        StreamingResponseBody body = outputStream -> {
+            // 한 건마다 flush하지 않고 서블릿 출력 버퍼가 찰 때마다 내보냄
+            try (SequenceWriter writer = objectMapper.writerFor(ArticleResponse.class)
+                    .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                    .withRootValueSeparator("\n")
+                    .writeValues(outputStream)) {
+                blogService.exportAll(article -> {
+                    try {
+                        writer.write(article);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    // 글 등록/수정/삭제 이벤트 구독 (Server-Sent Events)
+    // 브라우저의 EventSource는 연결이 끊기면 마지막으로 받은 이벤트 id를 Last-Event-ID 헤더로 보내며 재연결하고, 그 이후의 이벤트부터 이어서 받음
+    @GetMapping(value = "/api/articles/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeArticleEvents(@RequestHeader(name = "Last-Event-ID", required = false) Long lastEventId) {
+        return articleEventStream.subscribe(lastEventId);
+    }
+
+    // 제목/본문 전문 검색: 관련도(BM25) 순으로 page번째 페이지의 글 size개를 반환
+    @GetMapping("/api/articles/search")
+    public ResponseEntity<ArticleSearchResponse> searchArticles(@RequestParam(name = "q") String query,
+                                                                @RequestParam(name = "page", defaultValue = "0") int page,
+                                                                @RequestParam(name = "size", defaultValue = "" + ArticleSearchService.DEFAULT_PAGE_SIZE) int size) {
+        return ResponseEntity.ok()
+                .body(articleSearchService.search(query, page, size));
+    }
+
     @GetMapping("/api/articles/{id}")
-    public ResponseEntity<ArticleResponse> findArticle(@PathVariable(name = "id") long id) {
-        Article article = blogService.findById(id);
+    // 수정 시각만 조회해 클라이언트가 가진 버전(If-None-Match, If-Modified-Since)과 같으면 본문 없이 304 응답
+    public ResponseEntity<ArticleResponse> findArticle(@PathVariable(name = "id") long id, WebRequest request) {
+        Optional<LocalDateTime> lastModified = blogService.findLastModified(id);
+        if (lastModified.isPresent()
+                && request.checkNotModified(ArticleETags.forArticle(id, lastModified.get()), ArticleETags.toEpochMilli(lastModified.get()))) {
+            return notModified();
+        }
+
+        ArticleResponse article = blogService.findById(id);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache());
+        if (article.getUpdatedAt() != null) {
+            response.eTag(ArticleETags.forArticle(id, article.getUpdatedAt()))
+                    .lastModified(ArticleETags.toEpochMilli(article.getUpdatedAt()));
+        }
 
+        return response.body(article);
+    }
+
+    // 조회수가 많은 글 목록 (최근 조회는 집계 테이블에 반영된 뒤부터 포함됨)
+    @GetMapping("/api/articles/most-viewed")
+    public ResponseEntity<List<MostViewedArticleResponse>> findMostViewedArticles(@RequestParam(name = "limit", defaultValue = "10") int limit) {
         return ResponseEntity.ok()
-                .body(new ArticleResponse(article));
+                .body(blogService.findMostViewed(limit));
+    }
+
+    // 글 캐시의 적중/실패/제거 횟수 조회
+    @GetMapping("/api/articles/cache/stats")
+    public ResponseEntity<ArticleCacheStatsResponse> articleCacheStats() {
+        return ResponseEntity.ok()
+                .body(blogService.cacheStats());
     }
 
     @DeleteMapping("/api/articles/{id}")
@@ -65,11 +187,34 @@ public class BlogApiController {
     }
 
     @PutMapping("/api/articles/{id}")
-    public ResponseEntity<Article> updateArticle(@PathVariable(name = "id") long id, @RequestBody UpdateArticleRequest req) {
-        Article updatedArticle = blogService.update(id, req);
+    // 수정은 UPDATE 한 번으로 끝나며, 응답 본문은 커밋 이후 캐시를 통해 다시 읽은 최신 글
+    public ResponseEntity<ArticleResponse> updateArticle(@PathVariable(name = "id") long id, @RequestBody UpdateArticleRequest req) {
+        blogService.update(id, req);
 
         return ResponseEntity.ok()
-                .body(updatedArticle);
+                .body(blogService.findByIdWithoutViewCount(id));
+    }
+
+    // 다른 사용자가 먼저 수정해 버전이 맞지 않으면 409 Conflict 응답
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<Void> handleUpdateConflict() {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .build();
+    }
+
+    // 커서를 해석할 수 없으면(직접 만들었거나 잘린 값) 클라이언트 입력 오류이므로 400 Bad Request 응답
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<Void> handleInvalidCursor() {
+        return ResponseEntity.badRequest()
+                .build();
+    }
+
+    // checkNotModified()가 이미 304 상태와 ETag, Last-Modified 헤더를 설정했으므로 캐시 정책만 덧붙임
+    // Cache-Control: no-cache는 저장은 허용하되 매번 재검증하라는 의미 (지정하지 않으면 스프링 시큐리티가 no-store를 붙임)
+    private static <T> ResponseEntity<T> notModified() {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .cacheControl(CacheControl.noCache())
+                .build();
     }
 
 }
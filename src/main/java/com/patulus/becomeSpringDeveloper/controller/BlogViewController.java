@@ -1,54 +1,116 @@
-package com.patulus.becomeSpringDeveloper.controller;
-
-import com.patulus.becomeSpringDeveloper.domain.Article;
-import com.patulus.becomeSpringDeveloper.dto.ArticleListViewResponse;
-import com.patulus.becomeSpringDeveloper.dto.ArticleViewResponse;
-import com.patulus.becomeSpringDeveloper.service.BlogService;
-import lombok.RequiredArgsConstructor;
-import org.springframework.stereotype.Controller;
-import org.springframework.ui.Model;
-import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.bind.annotation.PathVariable;
-import org.springframework.web.bind.annotation.RequestParam;
-
-import java.util.List;
-
-@Controller
-@RequiredArgsConstructor
-public class BlogViewController {
-
-    private final BlogService blogService;
-
-    @GetMapping("/articles")
-    public String getArticles(Model model) {
-        List<ArticleListViewResponse> articles = blogService.findAll().stream()
-                .map(ArticleListViewResponse::new)
-                .toList();
-
-        model.addAttribute("articles", articles);
-
-        return "articleList";
-    }
-
-    @GetMapping("/articles/{id}")
-    public String getArticle(Model model, @PathVariable(name = "id") long id) {
-        Article article = blogService.findById(id);
-
-        model.addAttribute("article", article);
-
-        return "article";
-    }
-
-    @GetMapping("/new-article")
-    public String newArticle(Model model, @RequestParam(name="id", required = false) Long id) {
-        if (id == null) {
-            model.addAttribute("article", new ArticleViewResponse());
-        } else {
-            Article article = blogService.findById(id);
-            model.addAttribute("article", article);
-        }
-
-        return "newArticle";
-    }
-
-}
+package com.patulus.becomeSpringDeveloper.controller;
+
+import com.patulus.becomeSpringDeveloper.config.AcceptEncoding;
+import com.patulus.becomeSpringDeveloper.dto.ArticlePageResponse;
+import com.patulus.becomeSpringDeveloper.dto.ArticleResponse;
+import com.patulus.becomeSpringDeveloper.dto.ArticleViewResponse;
+import com.patulus.becomeSpringDeveloper.dto.InvalidCursorException;
+import com.patulus.becomeSpringDeveloper.service.BlogService;
+import com.patulus.becomeSpringDeveloper.service.RenderedPageCache;
+import com.patulus.becomeSpringDeveloper.service.RenderedPageCache.RenderedPage;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.View;
+import org.springframework.web.servlet.support.RequestContextUtils;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.thymeleaf.spring6.view.ThymeleafViewResolver;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+@Controller
+@RequiredArgsConstructor
+public class BlogViewController {
+
+    private static final MediaType TEXT_HTML_UTF8 = new MediaType(MediaType.TEXT_HTML, StandardCharsets.UTF_8);
+
+    private final BlogService blogService;
+    private final RenderedPageCache renderedPageCache;
+    private final ThymeleafViewResolver thymeleafViewResolver;
+
+    // 목록 화면은 렌더링된 HTML을 캐시해 두고 글이 바뀌기 전까지는 DB 조회와 템플릿 렌더링 없이 응답
+    @GetMapping("/articles")
+    public ResponseEntity<byte[]> getArticles(@RequestParam(name = "cursor", required = false) String cursor,
+                                              HttpServletRequest request, HttpServletResponse response) {
+        RenderedPage page = renderedPageCache.getList(cursor, () -> {
+            ArticlePageResponse articles = blogService.findPage(cursor, BlogService.DEFAULT_PAGE_SIZE);
+
+            Map<String, Object> model = new HashMap<>();
+            model.put("articles", articles.getArticles());
+            model.put("nextCursor", articles.getNextCursor());
+
+            return render("articleList", model, request, response);
+        });
+
+        return toResponse(page, request);
+    }
+
+    // 상세 화면은 글 캐시에서 읽은 수정 시각으로 캐시 키를 만들므로 수정된 글은 다시 렌더링됨
+    @GetMapping("/articles/{id}")
+    public ResponseEntity<byte[]> getArticle(@PathVariable(name = "id") long id,
+                                             HttpServletRequest request, HttpServletResponse response) {
+        ArticleResponse article = blogService.findById(id);
+
+        RenderedPage page = renderedPageCache.getArticle(article.getId(), article.getUpdatedAt(),
+                () -> render("article", Map.of("article", article), request, response));
+
+        return toResponse(page, request);
+    }
+
+    @GetMapping("/new-article")
+    public String newArticle(Model model, @RequestParam(name="id", required = false) Long id) {
+        if (id == null) {
+            model.addAttribute("article", new ArticleViewResponse());
+        } else {
+            ArticleResponse article = blogService.findByIdWithoutViewCount(id);
+            model.addAttribute("article", article);
+        }
+
+        return "newArticle";
+    }
+
+    // 주소창에서 커서를 잘못 고친 경우처럼 해석할 수 없는 커서는 400 Bad Request 응답
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<Void> handleInvalidCursor() {
+        return ResponseEntity.badRequest()
+                .build();
+    }
+
+    // 뷰 이름으로 타임리프 뷰를 찾아 응답 대신 메모리 버퍼에 렌더링하고 그 바이트를 반환
+    private byte[] render(String viewName, Map<String, ?> model, HttpServletRequest request, HttpServletResponse response) {
+        try {
+            View view = thymeleafViewResolver.resolveViewName(viewName, RequestContextUtils.getLocale(request));
+            ContentCachingResponseWrapper buffer = new ContentCachingResponseWrapper(response);
+            view.render(model, request, buffer);
+
+            return buffer.getContentAsByteArray();
+        } catch (Exception e) {
+            throw new IllegalStateException("failed to render view: " + viewName, e);
+        }
+    }
+
+    // 브라우저가 gzip을 받고 압축본이 있으면 압축본을, 아니면 원본을 그대로 전송
+    private ResponseEntity<byte[]> toResponse(RenderedPage page, HttpServletRequest request) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(TEXT_HTML_UTF8)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+
+        if (page.gzipped() != null && AcceptEncoding.accepts(request.getHeader(HttpHeaders.ACCEPT_ENCODING), "gzip")) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(page.gzipped());
+        }
+
+        return builder.body(page.html());
+    }
+
+}
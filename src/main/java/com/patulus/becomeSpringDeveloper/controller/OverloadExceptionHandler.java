@@ -0,0 +1,56 @@
+package com.patulus.becomeSpringDeveloper.controller;
+
+import com.patulus.becomeSpringDeveloper.config.ConnectionLimitExceededException;
+import com.patulus.becomeSpringDeveloper.config.PasswordHashingRejectedException;
+import com.patulus.becomeSpringDeveloper.service.TooManySubscribersException;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.TransactionException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+// 서버가 감당할 수 있는 양을 넘어 요청을 거절한 경우 500 대신 503과 Retry-After로 응답해 클라이언트가 잠시 뒤 다시 시도하게 함
+@RestControllerAdvice
+public class OverloadExceptionHandler {
+
+    public static final String RETRY_AFTER_SECONDS = "1";
+
+    // DB 커넥션 동시성 제한에 걸리면 JPA/JDBC 예외로 감싸져 올라오므로 원인을 따라가 확인
+    @ExceptionHandler({TransactionException.class, DataAccessException.class})
+    public ResponseEntity<Void> handleDataAccessFailure(RuntimeException e) {
+        if (!causedByConnectionLimit(e)) {
+            throw e;
+        }
+        return serviceUnavailable();
+    }
+
+    // 비밀번호 해싱 전용 스레드 풀과 대기열이 가득 찬 경우
+    @ExceptionHandler(PasswordHashingRejectedException.class)
+    public ResponseEntity<Void> handlePasswordHashingRejected() {
+        return serviceUnavailable();
+    }
+
+    // 글 변경 이벤트 스트림의 구독자 수가 최대치에 이른 경우
+    @ExceptionHandler(TooManySubscribersException.class)
+    public ResponseEntity<Void> handleTooManySubscribers() {
+        return serviceUnavailable();
+    }
+
+    static ResponseEntity<Void> serviceUnavailable() {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                .build();
+    }
+
+    private static boolean causedByConnectionLimit(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConnectionLimitExceededException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
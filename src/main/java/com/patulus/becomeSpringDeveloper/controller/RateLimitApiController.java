@@ -0,0 +1,23 @@
+package com.patulus.becomeSpringDeveloper.controller;
+
+import com.patulus.becomeSpringDeveloper.config.RateLimiter;
+import com.patulus.becomeSpringDeveloper.dto.RateLimitStatsResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RequiredArgsConstructor
+@RestController
+public class RateLimitApiController {
+
+    private final RateLimiter rateLimiter;
+
+    // 요청 수 제한과 과부하 거절이 얼마나 일어나는지 확인
+    @GetMapping("/api/rate-limit/stats")
+    public ResponseEntity<RateLimitStatsResponse> stats() {
+        return ResponseEntity.ok()
+                .body(rateLimiter.stats());
+    }
+
+}
@@ -0,0 +1,37 @@
+package com.patulus.becomeSpringDeveloper.controller;
+
+import com.patulus.becomeSpringDeveloper.dto.ArticleResponse;
+import com.patulus.becomeSpringDeveloper.service.ReactiveBlogService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+// R2DBC로 읽는 논블로킹 읽기 API (쓰기는 기존 /api/articles를 사용)
+// 스프링 MVC는 Flux/Mono 반환값을 비동기 요청으로 처리해, 결과가 준비될 때까지 톰캣 요청 스레드를 반납함
+@RequiredArgsConstructor
+@RestController
+public class ReactiveBlogApiController {
+
+    private final ReactiveBlogService reactiveBlogService;
+
+    // 전체 글을 NDJSON(한 줄에 ArticleResponse 하나)으로 스트리밍
+    // 한 건을 응답에 쓴 뒤에 다음 한 건을 요청(배압)하므로 클라이언트가 느리면 DB에서도 그만큼 천천히 읽음
+    @GetMapping(value = "/api/v2/articles", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<ArticleResponse> findAllArticles() {
+        return reactiveBlogService.findAll();
+    }
+
+    // 글이 없으면 404 응답
+    @GetMapping("/api/v2/articles/{id}")
+    public Mono<ResponseEntity<ArticleResponse>> findArticle(@PathVariable(name = "id") long id) {
+        return reactiveBlogService.findById(id)
+                .map(article -> ResponseEntity.ok().body(article))
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+}
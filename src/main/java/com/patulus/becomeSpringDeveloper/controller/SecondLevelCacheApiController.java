@@ -0,0 +1,25 @@
+package com.patulus.becomeSpringDeveloper.controller;
+
+import com.patulus.becomeSpringDeveloper.dto.CacheRegionStatsResponse;
+import com.patulus.becomeSpringDeveloper.service.SecondLevelCacheStatistics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+@RestController
+public class SecondLevelCacheApiController {
+
+    private final SecondLevelCacheStatistics secondLevelCacheStatistics;
+
+    // 하이버네이트 2차 캐시가 영역별로 얼마나 적중하는지 확인
+    @GetMapping("/api/cache/second-level/stats")
+    public ResponseEntity<List<CacheRegionStatsResponse>> stats() {
+        return ResponseEntity.ok()
+                .body(secondLevelCacheStatistics.regions());
+    }
+
+}
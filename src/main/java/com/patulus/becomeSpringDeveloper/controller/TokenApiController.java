@@ -0,0 +1,54 @@
+package com.patulus.becomeSpringDeveloper.controller;
+
+import com.patulus.becomeSpringDeveloper.config.PasswordHashingRejectedException;
+import com.patulus.becomeSpringDeveloper.dto.CreateAccessTokenRequest;
+import com.patulus.becomeSpringDeveloper.dto.CreateAccessTokenResponse;
+import com.patulus.becomeSpringDeveloper.dto.CreateTokenRequest;
+import com.patulus.becomeSpringDeveloper.dto.CreateTokenResponse;
+import com.patulus.becomeSpringDeveloper.service.TokenService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+@RequiredArgsConstructor
+@RestController
+public class TokenApiController {
+
+    private final TokenService tokenService;
+
+    // 이메일과 비밀번호로 액세스 토큰과 리프레시 토큰 발급
+    // 이후 /api/** 요청은 Authorization: Bearer <액세스 토큰> 헤더로 인증하며 세션을 만들지 않음
+    @PostMapping("/api/token")
+    public ResponseEntity<CreateTokenResponse> createTokens(@RequestBody CreateTokenRequest request) {
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(tokenService.createTokens(request.getEmail(), request.getPassword()));
+    }
+
+    // 액세스 토큰이 만료되면 리프레시 토큰으로 새 액세스 토큰 발급
+    @PostMapping("/api/token/refresh")
+    public ResponseEntity<CreateAccessTokenResponse> createNewAccessToken(@RequestBody CreateAccessTokenRequest request) {
+        String newAccessToken = tokenService.createNewAccessToken(request.getRefreshToken());
+
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(new CreateAccessTokenResponse(newAccessToken));
+    }
+
+    @ExceptionHandler(AuthenticationException.class)
+    public ResponseEntity<Void> handleAuthenticationFailure() {
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                .build();
+    }
+
+    // 비밀번호를 확인하지 못한 것이므로 401이 아니라 503으로 응답
+    // (컨트롤러의 @ExceptionHandler가 @RestControllerAdvice보다 먼저 선택되므로 여기서도 구분함)
+    @ExceptionHandler(PasswordHashingRejectedException.class)
+    public ResponseEntity<Void> handlePasswordHashingRejected() {
+        return OverloadExceptionHandler.serviceUnavailable();
+    }
+
+}
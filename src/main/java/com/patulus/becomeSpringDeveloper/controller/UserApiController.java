@@ -13,16 +13,20 @@ import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 
+import java.util.concurrent.CompletableFuture;
+
 @Controller
 @RequiredArgsConstructor
 public class UserApiController {
     
     private final UserService userService;
     
+    // 비밀번호 해싱은 해싱 전용 스레드 풀에서 처리하고, 그동안 요청 처리 스레드는 반환해 다른 요청을 처리함
+    // 해싱이 끝나면 비동기 디스패치로 이어서 로그인 페이지로 리다이렉트
     @PostMapping("/user")
-    public String signup(AddUserRequest request) {
-        userService.save(request);
-        return "redirect:/login";
+    public CompletableFuture<String> signup(AddUserRequest request) {
+        return userService.saveAsync(request)
+            .thenApply(id -> "redirect:/login");
     }
     
     @GetMapping("/logout")
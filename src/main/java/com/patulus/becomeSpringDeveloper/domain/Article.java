@@ -6,19 +6,30 @@ import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
+import java.text.BreakIterator;
 import java.time.LocalDateTime;
 
 // 엔티티로 지정
 @Entity
+// 스키마와 인덱스는 Flyway 마이그레이션(db/migration)이 만들고, 여기에는 어떤 인덱스가 있는지 알 수 있도록 같은 내용을 적어 둠
+@Table(name = "article", indexes = {
+        @Index(name = "idx_article_created_at_id", columnList = "created_at desc, id desc"),
+        @Index(name = "idx_article_updated_at", columnList = "updated_at")
+})
 // 엔티티 객체의 값을 간접적으로 조회할 수 있는 함수를 만드는 Lombok 어노테이션
 @Getter
 //@Setter
@@ -35,7 +46,15 @@ import java.time.LocalDateTime;
 // 모든 필드를 파라미터로 하는 생성자를 만드는 Lombok 어노테이션 (access를 지정하지 않으면 접근 지시자는 public)
 @AllArgsConstructor
 @EntityListeners(AuditingEntityListener.class)
+// 변경 감지로 UPDATE 쿼리를 만들 때 모든 컬럼이 아닌 실제로 바뀐 컬럼만 SET 절에 포함
+@DynamicUpdate
+// 하이버네이트 2차 캐시에는 보관하지 않음: id로 찾는 조회는 ArticleCache가 맡고,
+// 글 수정은 벌크 UPDATE(BlogRepository.updateContent 등)라서 2차 캐시에 두면 수정할 때마다 영역 전체가 비워짐
 public class Article {
+
+    // 목록에 보여줄 본문 미리보기(excerpt)의 최대 길이 (자바 문자 수 기준이므로 컬럼 길이를 넘지 않음)
+    public static final int EXCERPT_LENGTH = 200;
+
     // id 필드를 기본 키로 지정
     @Id
     // 기본 키 자동 생성 설정 방식 지정
@@ -64,7 +83,11 @@ public class Article {
     // TABLE   : 키 생성 테이블 사용
     //           키 생성 전용 테이블을 생성해 DB Sequence를 흉내냄
     //           식별자 조회 쿼리, 식별자 값 증가 쿼리 등을 사용하므로 데이터베이스와의 통신이 증가함
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    //
+    // IDENTITY는 INSERT를 실행해야 식별자를 알 수 있어 Hibernate가 INSERT를 JDBC 배치로 묶지 못함
+    // 대량 등록을 위해 SEQUENCE를 사용하고, allocationSize만큼 식별자를 미리 할당(pooled optimizer)해 시퀀스 조회 횟수도 줄임
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "article_seq")
+    @SequenceGenerator(name = "article_seq", sequenceName = "article_seq", allocationSize = 50)
     // Column 어노테이션이 없으면 필드 이름 그대로 DB Column과 매핑을 시도
     // DB Table의 Column 속성 지정
     @Column(name = "id", updatable = false)
@@ -76,6 +99,12 @@ public class Article {
     @Column(name = "content", nullable = false)
     private String content;
 
+    // 본문 앞부분 미리보기, 글을 저장하거나 수정할 때 본문에서 계산해 둠
+    // 목록 화면과 목록 API는 content 대신 이 컬럼만 읽음
+    // 이 컬럼이 생기기 전에 저장된 글은 비어 있으며 ArticleExcerptBackfill이 채움
+    @Column(name = "excerpt", length = EXCERPT_LENGTH)
+    private String excerpt;
+
     // 엔티티가 생성된 시간을 저장
     @CreatedDate
     @Column(name = "created_at")
@@ -86,6 +115,12 @@ public class Article {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    // 낙관적 잠금(Optimistic Lock)용 버전
+    // 수정할 때마다 1씩 증가하며, 읽었을 때의 버전과 DB의 버전이 다르면 다른 사용자가 먼저 수정한 것으로 보고 수정을 거부함
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     // Builder 패턴 방식으로 객체 생성
     // Builder 패턴 방식이 아니라면, Article("제목일까요?", "내용일까요?"); : 어떤 필드의 값인지 알기 어려움
     // Builder 패턴 방식이라면      Article.builder().title("제목이네요").content("내용이네요").build(); : 어떤 필드의 내용인지 알 수 있음
@@ -93,10 +128,26 @@ public class Article {
     private Article(String title, String content) {
         this.title = title;
         this.content = content;
+        this.excerpt = excerptOf(content);
     }
 
     public void update(String title, String content) {
         this.title = title;
         this.content = content;
+        this.excerpt = excerptOf(content);
+    }
+
+    // 본문을 EXCERPT_LENGTH 이내로 자른 미리보기
+    // 자르는 위치가 글자 중간(이모지의 서로게이트 쌍, 결합 문자, 한글 자모 조합 등)이면 그 글자 앞에서 자름
+    public static String excerptOf(String content) {
+        if (content == null || content.length() <= EXCERPT_LENGTH) {
+            return content;
+        }
+
+        BreakIterator characters = BreakIterator.getCharacterInstance();
+        characters.setText(content);
+        int end = characters.isBoundary(EXCERPT_LENGTH) ? EXCERPT_LENGTH : characters.preceding(EXCERPT_LENGTH);
+
+        return content.substring(0, end);
     }
 }
@@ -0,0 +1,37 @@
+package com.patulus.becomeSpringDeveloper.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 글이 등록/수정/삭제되었음을 알리는 이벤트
+// BlogService가 발행하고, 검색 색인처럼 글 변경에 맞춰 갱신되어야 하는 컴포넌트가 커밋 이후에 받아 처리함
+// 삭제 이벤트는 title, content, updatedAt이 null
+@AllArgsConstructor
+@Getter
+public class ArticleChangedEvent {
+
+    public enum Type {
+        CREATED, UPDATED, DELETED
+    }
+
+    private final Type type;
+    private final long articleId;
+    private final String title;
+    private final String content;
+    private final LocalDateTime updatedAt;
+
+    public static ArticleChangedEvent created(Article article) {
+        return new ArticleChangedEvent(Type.CREATED, article.getId(), article.getTitle(), article.getContent(), article.getUpdatedAt());
+    }
+
+    public static ArticleChangedEvent updated(long id, String title, String content, LocalDateTime updatedAt) {
+        return new ArticleChangedEvent(Type.UPDATED, id, title, content, updatedAt);
+    }
+
+    public static ArticleChangedEvent deleted(long id) {
+        return new ArticleChangedEvent(Type.DELETED, id, null, null, null);
+    }
+
+}
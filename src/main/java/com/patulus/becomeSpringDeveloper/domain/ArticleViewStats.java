@@ -0,0 +1,29 @@
+package com.patulus.becomeSpringDeveloper.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 글별 누적 조회수 집계 테이블
+// 조회할 때마다 article 행을 수정하지 않고, ArticleViewCounter가 메모리에 모은 조회수를 주기적으로 더해 넣음
+// 행은 ArticleViewCounter의 MERGE 문으로만 만들고 수정하므로 엔티티는 조회용
+@Entity
+@Table(name = "article_view_stats", indexes = @Index(name = "idx_article_view_stats_views", columnList = "views desc, article_id desc"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ArticleViewStats {
+
+    // 글 id를 그대로 기본 키로 사용 (글 하나에 행 하나)
+    @Id
+    @Column(name = "article_id")
+    private Long articleId;
+
+    @Column(name = "views", nullable = false)
+    private long views;
+
+}
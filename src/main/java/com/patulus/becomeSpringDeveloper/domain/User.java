@@ -12,6 +12,8 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 import org.springframework.security.core.GrantedAuthority;
@@ -21,6 +23,8 @@ import org.springframework.security.core.userdetails.UserDetails;
 @Table(name = "users")
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
+// 하이버네이트 2차 캐시의 user 영역에 보관해 id로 찾을 때 SELECT 없이 가져옴
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "user")
 @Entity
 public class User implements UserDetails {
     @Id
@@ -40,6 +44,11 @@ public class User implements UserDetails {
         this.password = password;
     }
     
+    // 비밀번호 해시 변경 (로그인할 때 새 해싱 설정으로 다시 해싱한 경우 등)
+    public void updatePassword(String password) {
+        this.password = password;
+    }
+    
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return List.of(new SimpleGrantedAuthority("user"));
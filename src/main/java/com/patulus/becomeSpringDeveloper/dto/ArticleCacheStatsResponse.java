@@ -0,0 +1,18 @@
+package com.patulus.becomeSpringDeveloper.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 글 캐시의 누적 적중/실패/제거 횟수와 뒤에서 새로 읽은 횟수
+@AllArgsConstructor
+@Getter
+public class ArticleCacheStatsResponse {
+
+    private final long hitCount;
+    private final long missCount;
+    private final double hitRate;
+    private final long evictionCount;
+    private final long size;
+    private final long refreshCount;
+
+}
@@ -0,0 +1,38 @@
+package com.patulus.becomeSpringDeveloper.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+// 목록 페이지의 마지막 글 위치 (created_at, id)를 나타내는 커서
+// 클라이언트에는 내부 구조를 알 수 없도록 Base64(URL-safe) 문자열로 전달
+@AllArgsConstructor
+@Getter
+public class ArticleCursor {
+
+    private static final String DELIMITER = "_";
+
+    private final LocalDateTime createdAt;
+    private final long id;
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ArticleCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int index = raw.lastIndexOf(DELIMITER);
+
+            return new ArticleCursor(LocalDateTime.parse(raw.substring(0, index)), Long.parseLong(raw.substring(index + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new InvalidCursorException(cursor, e);
+        }
+    }
+
+}
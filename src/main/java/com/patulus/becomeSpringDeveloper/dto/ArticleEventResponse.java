@@ -0,0 +1,25 @@
+package com.patulus.becomeSpringDeveloper.dto;
+
+import com.patulus.becomeSpringDeveloper.domain.ArticleChangedEvent;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// SSE로 보내는 글 변경 이벤트 본문
+// 본문(content)은 크기가 클 수 있으므로 보내지 않고, 필요한 클라이언트는 articleId로 글을 다시 조회함
+@Getter
+public class ArticleEventResponse {
+
+    private final String type;
+    private final long articleId;
+    private final String title;
+    private final LocalDateTime updatedAt;
+
+    public ArticleEventResponse(ArticleChangedEvent event) {
+        this.type = event.getType().name();
+        this.articleId = event.getArticleId();
+        this.title = event.getTitle();
+        this.updatedAt = event.getUpdatedAt();
+    }
+
+}
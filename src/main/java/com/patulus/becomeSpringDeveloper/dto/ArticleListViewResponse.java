@@ -1,19 +1,24 @@
 package com.patulus.becomeSpringDeveloper.dto;
 
-import com.patulus.becomeSpringDeveloper.domain.Article;
+import com.patulus.becomeSpringDeveloper.repository.ArticleSummary;
 import lombok.Getter;
 
+import java.time.LocalDateTime;
+
 @Getter
 public class ArticleListViewResponse {
 
     private final Long id;
     private final String title;
-    private final String content;
+    private final String excerpt;
+    private final LocalDateTime createdAt;
 
-    public ArticleListViewResponse(Article article) {
-        this.id = article.getId();
-        this.title = article.getTitle();
-        this.content = article.getContent();
+    // 목록 화면에는 본문 전체가 필요 없으므로 프로젝션으로 조회한 미리보기만 담음
+    public ArticleListViewResponse(ArticleSummary summary) {
+        this.id = summary.getId();
+        this.title = summary.getTitle();
+        this.excerpt = summary.getExcerpt();
+        this.createdAt = summary.getCreatedAt();
     }
 
 }
@@ -0,0 +1,17 @@
+package com.patulus.becomeSpringDeveloper.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// 키셋 페이지네이션 응답
+// nextCursor가 null이면 마지막 페이지
+@AllArgsConstructor
+@Getter
+public class ArticlePageResponse {
+
+    private final List<ArticleListViewResponse> articles;
+    private final String nextCursor;
+
+}
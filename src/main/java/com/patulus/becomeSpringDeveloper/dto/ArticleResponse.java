@@ -1,19 +1,32 @@
 package com.patulus.becomeSpringDeveloper.dto;
 
 import com.patulus.becomeSpringDeveloper.domain.Article;
+import lombok.AllArgsConstructor;
 import lombok.Getter;
 
+import java.time.LocalDateTime;
+
+// R2DBC로 읽은 행처럼 엔티티 없이 값만 있을 때는 모든 필드를 받는 생성자를 사용
+@AllArgsConstructor
 @Getter
 public class ArticleResponse {
 
+    private final Long id;
     private final String title;
     private final String content;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+    private final Long version;
 
     // 생성자를 통한 final 필드 초기화
-    // Article 엔티티로부터 제목과 내용을 가져와 필드에 저장
+    // Article 엔티티로부터 식별자, 제목, 내용, 작성/수정 시각을 가져와 필드에 저장
     public ArticleResponse(Article article) {
+        this.id = article.getId();
         this.title = article.getTitle();
         this.content = article.getContent();
+        this.createdAt = article.getCreatedAt();
+        this.updatedAt = article.getUpdatedAt();
+        this.version = article.getVersion();
     }
 
 }
@@ -0,0 +1,25 @@
+package com.patulus.becomeSpringDeveloper.dto;
+
+import com.patulus.becomeSpringDeveloper.repository.ArticleSummary;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class ArticleSearchHit {
+
+    private final Long id;
+    private final String title;
+    private final String excerpt;
+    private final LocalDateTime createdAt;
+    private final double score;
+
+    public ArticleSearchHit(ArticleSummary summary, double score) {
+        this.id = summary.getId();
+        this.title = summary.getTitle();
+        this.excerpt = summary.getExcerpt();
+        this.createdAt = summary.getCreatedAt();
+        this.score = score;
+    }
+
+}
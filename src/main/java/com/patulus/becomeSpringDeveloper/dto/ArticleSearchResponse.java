@@ -0,0 +1,21 @@
+package com.patulus.becomeSpringDeveloper.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// 검색 결과 한 페이지
+// indexing이 true이면 시작 직후 색인을 만드는 중이라 일부 글이 결과에 빠져 있을 수 있음
+@AllArgsConstructor
+@Getter
+public class ArticleSearchResponse {
+
+    private final String query;
+    private final int total;
+    private final int page;
+    private final int size;
+    private final boolean indexing;
+    private final List<ArticleSearchHit> hits;
+
+}
@@ -0,0 +1,30 @@
+package com.patulus.becomeSpringDeveloper.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 대량 등록 요청의 항목별 처리 결과
+// index는 요청 본문에서의 순서(0부터 시작)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+public class BatchArticleItemResult {
+
+    public enum Status {
+        CREATED, FAILED
+    }
+
+    private final int index;
+    private final Long id;
+    private final Status status;
+    private final String error;
+
+    public static BatchArticleItemResult created(int index, Long id) {
+        return new BatchArticleItemResult(index, id, Status.CREATED, null);
+    }
+
+    public static BatchArticleItemResult failed(int index, String error) {
+        return new BatchArticleItemResult(index, null, Status.FAILED, error);
+    }
+
+}
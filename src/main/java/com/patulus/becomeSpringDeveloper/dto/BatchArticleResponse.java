@@ -0,0 +1,20 @@
+package com.patulus.becomeSpringDeveloper.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// 대량 등록 결과: 전체/성공/실패 건수, 소요 시간, 처리량(초당 등록 건수)과 항목별 결과
+@AllArgsConstructor
+@Getter
+public class BatchArticleResponse {
+
+    private final int total;
+    private final int succeeded;
+    private final int failed;
+    private final long elapsedMillis;
+    private final double articlesPerSecond;
+    private final List<BatchArticleItemResult> results;
+
+}
@@ -0,0 +1,18 @@
+package com.patulus.becomeSpringDeveloper.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 하이버네이트 2차 캐시 영역 하나의 누적 적중/실패/저장 횟수와 현재 항목 수
+@AllArgsConstructor
+@Getter
+public class CacheRegionStatsResponse {
+
+    private final String region;
+    private final long hitCount;
+    private final long missCount;
+    private final long putCount;
+    private final double hitRate;
+    private final long size;
+
+}
@@ -0,0 +1,13 @@
+package com.patulus.becomeSpringDeveloper.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor
+@Getter
+public class CreateTokenResponse {
+
+    private String accessToken;
+    private String refreshToken;
+
+}
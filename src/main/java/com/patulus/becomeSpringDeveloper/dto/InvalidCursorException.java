@@ -0,0 +1,12 @@
+package com.patulus.becomeSpringDeveloper.dto;
+
+// 클라이언트가 보낸 목록 커서를 해석할 수 없을 때 발생 (컨트롤러에서 400으로 응답)
+public class InvalidCursorException extends IllegalArgumentException {
+
+    private static final long serialVersionUID = 1L;
+
+    public InvalidCursorException(String cursor, Throwable cause) {
+        super("invalid cursor: " + cursor, cause);
+    }
+
+}
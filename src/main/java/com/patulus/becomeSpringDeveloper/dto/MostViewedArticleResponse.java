@@ -0,0 +1,20 @@
+package com.patulus.becomeSpringDeveloper.dto;
+
+import com.patulus.becomeSpringDeveloper.repository.MostViewedArticle;
+import lombok.Getter;
+
+@Getter
+public class MostViewedArticleResponse {
+
+    private final Long id;
+    private final String title;
+    private final long views;
+
+    // 조회수는 집계 테이블에 반영된 값이므로 아직 반영되지 않은 최근 조회(최대 한 주기)는 빠져 있음
+    public MostViewedArticleResponse(MostViewedArticle article) {
+        this.id = article.getId();
+        this.title = article.getTitle();
+        this.views = article.getViews();
+    }
+
+}
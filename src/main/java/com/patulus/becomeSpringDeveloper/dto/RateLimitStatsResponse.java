@@ -0,0 +1,18 @@
+package com.patulus.becomeSpringDeveloper.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 요청 수 제한 통계 (허용/제한/과부하 거절 수, 관리 중인 버킷 수, 처리 시간 평균, DB 커넥션 대기 스레드 수)
+@AllArgsConstructor
+@Getter
+public class RateLimitStatsResponse {
+
+    private final long allowed;
+    private final long rejected;
+    private final long shed;
+    private final int buckets;
+    private final double latencyEwmaMillis;
+    private final int dbThreadsAwaiting;
+
+}
@@ -11,5 +11,11 @@ public class UpdateArticleRequest {
 
     private String title;
     private String content;
+    // 수정 화면을 열 때 읽은 글의 버전 (낙관적 잠금), 없으면 버전 확인 없이 수정
+    private Long version;
+
+    public UpdateArticleRequest(String title, String content) {
+        this(title, content, null);
+    }
 
 }
@@ -0,0 +1,13 @@
+package com.patulus.becomeSpringDeveloper.repository;
+
+import java.time.LocalDateTime;
+
+// 목록 응답의 버전(ETag)을 계산하기 위한 프로젝션
+// 글이 추가/수정되면 lastModified가, 삭제되면 count가 바뀜
+public interface ArticleListVersion {
+
+    LocalDateTime getLastModified();
+
+    long getCount();
+
+}
@@ -0,0 +1,18 @@
+package com.patulus.becomeSpringDeveloper.repository;
+
+import java.time.LocalDateTime;
+
+// 목록 조회용 인터페이스 기반 프로젝션
+// 엔티티 전체를 영속성 컨텍스트에 올리지 않고 SELECT 절에 지정한 컬럼만 조회함
+// content 컬럼은 읽지 않고 저장할 때 만들어 둔 미리보기(excerpt) 컬럼만 가져옴
+public interface ArticleSummary {
+
+    Long getId();
+
+    String getTitle();
+
+    String getExcerpt();
+
+    LocalDateTime getCreatedAt();
+
+}
@@ -0,0 +1,22 @@
+package com.patulus.becomeSpringDeveloper.repository;
+
+import com.patulus.becomeSpringDeveloper.domain.ArticleViewStats;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ArticleViewStatsRepository extends JpaRepository<ArticleViewStats, Long> {
+
+    // 조회수 인덱스 순서로 읽으므로 article 테이블은 상위 몇 건만 id로 조인
+    // 같은 조회수끼리의 순서도 인덱스 컬럼(article_id)으로 정해야 정렬 없이 인덱스 순서 그대로 읽음
+    // 삭제된 글의 집계 행이 남아 있더라도 조인에서 빠짐
+    @Query("select a.id as id, a.title as title, s.views as views "
+            + "from ArticleViewStats s join Article a on a.id = s.articleId "
+            + "order by s.views desc, s.articleId desc")
+    List<MostViewedArticle> findMostViewed(Pageable pageable);
+
+}
@@ -1,11 +1,81 @@
 package com.patulus.becomeSpringDeveloper.repository;
 
 import com.patulus.becomeSpringDeveloper.domain.Article;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
 @Repository
 // Spring Data JPA의 공통 인터페이스를 상속 받아 JPQL 작성 없이 CRUD를 사용할 수 있음
 // extends JpaRepository<엔티티 객체 타입, 기본 키 타입>
 public interface BlogRepository extends JpaRepository<Article, Long> {
+
+    // 스트리밍 조회 시 JDBC 드라이버가 한 번에 가져올 행 수
+    int EXPORT_FETCH_SIZE = 500;
+
+    // 키셋(커서) 페이지네이션: OFFSET 없이 (created_at, id) 기준으로 다음 페이지를 찾으므로 깊은 페이지도 첫 페이지와 비용이 같음
+    // created_at <= :createdAt 조건이 있어야 DB가 (created_at, id) 인덱스를 커서 위치부터 읽음 (OR 조건만 있으면 인덱스를 처음부터 읽음)
+    // Pageable은 LIMIT 지정 용도로만 사용하며 List 반환이므로 count 쿼리가 실행되지 않음
+    @Query("select a.id as id, a.title as title, a.excerpt as excerpt, a.createdAt as createdAt "
+            + "from Article a "
+            + "order by a.createdAt desc, a.id desc")
+    List<ArticleSummary> findFirstPage(Pageable pageable);
+
+    @Query("select a.id as id, a.title as title, a.excerpt as excerpt, a.createdAt as createdAt "
+            + "from Article a "
+            + "where a.createdAt <= :createdAt and (a.createdAt < :createdAt or a.id < :id) "
+            + "order by a.createdAt desc, a.id desc")
+    List<ArticleSummary> findPageAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") long id, Pageable pageable);
+
+    // 검색 결과처럼 이미 정해진 id들의 목록용 프로젝션 조회
+    @Query("select a.id as id, a.title as title, a.excerpt as excerpt, a.createdAt as createdAt "
+            + "from Article a "
+            + "where a.id in :ids")
+    List<ArticleSummary> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 전체 글을 List로 한 번에 올리지 않고 커서처럼 한 건씩 읽어오는 스트림
+    // 읽기 전용 힌트로 변경 감지용 스냅샷을 만들지 않으며, 반드시 트랜잭션 안에서 사용하고 사용 후 닫아야 함
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select a from Article a order by a.id")
+    Stream<Article> streamAll();
+
+    // 조건부 GET 판단용: 본문 없이 수정 시각 컬럼만 조회
+    @Query("select a.updatedAt from Article a where a.id = :id")
+    Optional<LocalDateTime> findUpdatedAtById(@Param("id") long id);
+
+    @Query("select max(a.updatedAt) as lastModified, count(a) as count from Article a")
+    ArticleListVersion findListVersion();
+
+    // 조회 없이 UPDATE 한 번으로 글을 수정하고 버전을 올림
+    // version이 일치하지 않으면 0을 반환하므로 호출하는 쪽에서 충돌 여부를 판단
+    // 벌크 연산은 영속성 컨텍스트를 거치지 않으므로 실행 전 flush, 실행 후 clear
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Article a set a.title = :title, a.content = :content, a.excerpt = :excerpt, a.updatedAt = :updatedAt, a.version = a.version + 1 "
+            + "where a.id = :id and a.version = :version")
+    int updateIfVersionMatches(@Param("id") long id, @Param("version") long version, @Param("title") String title,
+                               @Param("content") String content, @Param("excerpt") String excerpt,
+                               @Param("updatedAt") LocalDateTime updatedAt);
+
+    // 버전을 보내지 않은 클라이언트를 위한 수정 (마지막 요청이 반영됨)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Article a set a.title = :title, a.content = :content, a.excerpt = :excerpt, a.updatedAt = :updatedAt, a.version = a.version + 1 "
+            + "where a.id = :id")
+    int updateContent(@Param("id") long id, @Param("title") String title, @Param("content") String content,
+                      @Param("excerpt") String excerpt, @Param("updatedAt") LocalDateTime updatedAt);
+
 }
@@ -0,0 +1,12 @@
+package com.patulus.becomeSpringDeveloper.repository;
+
+// 조회수 순위 조회용 프로젝션 (집계 테이블과 글 제목)
+public interface MostViewedArticle {
+
+    Long getId();
+
+    String getTitle();
+
+    long getViews();
+
+}
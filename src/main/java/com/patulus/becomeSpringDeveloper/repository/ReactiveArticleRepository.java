@@ -0,0 +1,51 @@
+package com.patulus.becomeSpringDeveloper.repository;
+
+import com.patulus.becomeSpringDeveloper.dto.ArticleResponse;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+// Article 엔티티와 같은 article 테이블을 R2DBC로 읽는 저장소
+// JPA를 거치지 않으므로 영속성 컨텍스트 없이 행을 바로 응답 DTO로 변환
+@Repository
+@RequiredArgsConstructor
+public class ReactiveArticleRepository {
+
+    private static final String COLUMNS = "id, title, content, created_at, updated_at, version";
+
+    // 전체 글 스트리밍 시 DB에서 한 번에 가져올 행 수 (BlogRepository의 내보내기와 같은 값)
+    private static final int FETCH_SIZE = BlogRepository.EXPORT_FETCH_SIZE;
+
+    private final DatabaseClient databaseClient;
+
+    // 구독자가 요청(request)한 만큼만 행을 내보냄
+    public Flux<ArticleResponse> findAll() {
+        return databaseClient.sql("select " + COLUMNS + " from article order by id")
+                .filter(statement -> statement.fetchSize(FETCH_SIZE))
+                .map(ReactiveArticleRepository::toResponse)
+                .all();
+    }
+
+    public Mono<ArticleResponse> findById(long id) {
+        return databaseClient.sql("select " + COLUMNS + " from article where id = :id")
+                .bind("id", id)
+                .map(ReactiveArticleRepository::toResponse)
+                .one();
+    }
+
+    private static ArticleResponse toResponse(Readable row) {
+        return new ArticleResponse(
+                row.get("id", Long.class),
+                row.get("title", String.class),
+                row.get("content", String.class),
+                row.get("created_at", LocalDateTime.class),
+                row.get("updated_at", LocalDateTime.class),
+                row.get("version", Long.class));
+    }
+
+}
@@ -1,11 +1,20 @@
 package com.patulus.becomeSpringDeveloper.repository;
 
 import com.patulus.becomeSpringDeveloper.domain.User;
+import jakarta.persistence.QueryHint;
 import java.util.Optional;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     
+    // 로그인할 때마다 같은 이메일로 찾으므로 쿼리 결과(찾은 사용자의 컬럼 값)를 user-by-email 영역에 캐시
+    // users 테이블이 바뀌면 하이버네이트가 갱신 시각(default-update-timestamps-region)을 보고 캐시된 결과를 버림
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "user-by-email")
+    })
     Optional<User> findByEmail(String email);
     
 }
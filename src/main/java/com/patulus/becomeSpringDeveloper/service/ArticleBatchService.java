@@ -0,0 +1,103 @@
+package com.patulus.becomeSpringDeveloper.service;
+
+import com.patulus.becomeSpringDeveloper.config.ArticleBatchProperties;
+import com.patulus.becomeSpringDeveloper.domain.Article;
+import com.patulus.becomeSpringDeveloper.domain.ArticleChangedEvent;
+import com.patulus.becomeSpringDeveloper.dto.AddArticleRequest;
+import com.patulus.becomeSpringDeveloper.dto.BatchArticleItemResult;
+import com.patulus.becomeSpringDeveloper.dto.BatchArticleResponse;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+// 글 대량 등록 (이전 CMS에서 옮겨 오는 글 등)
+// 요청을 chunkSize개씩 나눠 청크마다 한 트랜잭션으로 저장하며,
+// 청크 안의 INSERT는 Hibernate JDBC 배치(hibernate.jdbc.batch_size)로 묶여 전송됨
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class ArticleBatchService {
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ArticleBatchProperties properties;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 요청 본문 전체를 리스트로 만들지 않도록 Iterator로 받아 읽는 대로 청크를 채움
+    public BatchArticleResponse saveAll(Iterator<AddArticleRequest> requests) {
+        long startedAt = System.nanoTime();
+        List<BatchArticleItemResult> results = new ArrayList<>();
+        List<Integer> chunkIndexes = new ArrayList<>(properties.getChunkSize());
+        List<Article> chunk = new ArrayList<>(properties.getChunkSize());
+
+        int index = 0;
+        while (requests.hasNext()) {
+            AddArticleRequest request = requests.next();
+
+            if (isBlank(request.getTitle()) || isBlank(request.getContent())) {
+                results.add(BatchArticleItemResult.failed(index++, "title and content are required"));
+                continue;
+            }
+
+            chunkIndexes.add(index++);
+            chunk.add(request.toEntity());
+
+            if (chunk.size() == properties.getChunkSize()) {
+                saveChunk(chunkIndexes, chunk, results);
+            }
+        }
+        saveChunk(chunkIndexes, chunk, results);
+
+        long elapsedNanos = System.nanoTime() - startedAt;
+        int succeeded = (int) results.stream()
+                .filter(result -> result.getStatus() == BatchArticleItemResult.Status.CREATED)
+                .count();
+        double articlesPerSecond = elapsedNanos == 0 ? 0 : succeeded * 1_000_000_000.0 / elapsedNanos;
+
+        log.info("batch insert: {} of {} articles saved in {} ms ({} articles/s)",
+                succeeded, index, elapsedNanos / 1_000_000, Math.round(articlesPerSecond));
+
+        results.sort((a, b) -> Integer.compare(a.getIndex(), b.getIndex()));
+        return new BatchArticleResponse(index, succeeded, index - succeeded, elapsedNanos / 1_000_000,
+                articlesPerSecond, results);
+    }
+
+    // 청크 하나를 한 트랜잭션으로 저장하고, 실패하면 청크 전체가 롤백되므로 청크의 모든 항목을 실패로 기록
+    private void saveChunk(List<Integer> chunkIndexes, List<Article> chunk, List<BatchArticleItemResult> results) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                chunk.forEach(entityManager::persist);
+                entityManager.flush();
+                // 저장이 끝난 엔티티는 영속성 컨텍스트에서 비워 다음 청크가 메모리를 이어서 차지하지 않게 함
+                entityManager.clear();
+            });
+
+            for (int i = 0; i < chunk.size(); i++) {
+                results.add(BatchArticleItemResult.created(chunkIndexes.get(i), chunk.get(i).getId()));
+                eventPublisher.publishEvent(ArticleChangedEvent.created(chunk.get(i)));
+            }
+        } catch (RuntimeException e) {
+            log.warn("batch insert chunk failed: {}", e.getMessage());
+            chunkIndexes.forEach(index -> results.add(BatchArticleItemResult.failed(index, e.getMessage())));
+        }
+
+        chunkIndexes.clear();
+        chunk.clear();
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+}
@@ -0,0 +1,162 @@
+package com.patulus.becomeSpringDeveloper.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.patulus.becomeSpringDeveloper.config.ArticleCacheProperties;
+import com.patulus.becomeSpringDeveloper.config.ReadWriteRoutingDataSource;
+import com.patulus.becomeSpringDeveloper.dto.ArticleCacheStatsResponse;
+import com.patulus.becomeSpringDeveloper.dto.ArticleResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+// 글 id를 키로 ArticleResponse 스냅샷을 보관하는 프로세스 내 캐시
+// 영속성 컨텍스트에 묶인 엔티티가 아니라 불변 DTO를 저장하므로 여러 요청이 공유해도 안전함
+// MeterBinder 빈이므로 적중률, 제거 수 등 캐시 통계가 cache.* 지표(cache=article 태그)로 자동 등록됨
+// 많이 읽히는 글이 만료되거나 수정될 때 몰린 요청이 모두 DB로 가지 않도록(cache stampede)
+// 1. 캐시에 없는 글은 id마다 한 요청만 DB에서 읽고 나머지는 그 결과를 기다림 (single-flight)
+// 2. 만료된 글은 제거하지 않고 잠시 이전 값을 반환하면서 한 스레드가 뒤에서 새로 읽음 (stale-while-revalidate)
+// 3. 만료 직전에는 확률적으로 미리 새로 읽어 만료 시각에 요청이 몰리지 않게 함 (XFetch)
+@Slf4j
+@Component
+public class ArticleCache implements MeterBinder {
+
+    // loadedAt: 읽기를 마친 시각, loadNanos: DB에서 읽는 데 걸린 시간 (XFetch가 미리 읽을 확률을 정할 때 사용)
+    // 값 비교 없이 같은 객체인지로 비교하므로 뒤에서 새로 읽는 사이 다른 값으로 바뀌었는지 알 수 있음
+    private record Entry(ArticleResponse article, long loadedAt, long loadNanos) {
+    }
+
+    private final Cache<Long, Entry> cache;
+    private final long timeToLiveNanos;
+    private final double earlyExpiryBeta;
+
+    // 뒤에서 새로 읽는 중인 글 id, 같은 글은 한 번에 하나만 새로 읽음
+    private final Set<Long> refreshing = ConcurrentHashMap.newKeySet();
+    private final ThreadPoolTaskExecutor refresher;
+    private final LongAdder refreshCount = new LongAdder();
+
+    public ArticleCache(ArticleCacheProperties properties) {
+        this.timeToLiveNanos = properties.getTimeToLive().toNanos();
+        this.earlyExpiryBeta = properties.getEarlyExpiryBeta();
+        // 만료(time-to-live) 뒤에도 이전 값을 반환할 수 있도록 그만큼 더 보관
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getTimeToLive().plus(properties.getStaleWhileRevalidate()))
+                .recordStats()
+                .build();
+
+        // 대기 작업은 새로 읽는 중인 글 수(최대 캐시 크기)를 넘지 않음
+        this.refresher = new ThreadPoolTaskExecutor();
+        this.refresher.setCorePoolSize(properties.getRefreshThreads());
+        this.refresher.setMaxPoolSize(properties.getRefreshThreads());
+        this.refresher.setThreadNamePrefix("article-cache-refresh-");
+        this.refresher.initialize();
+    }
+
+    // 캐시에 있으면 바로 반환하고, 없으면 loader로 DB에서 읽어 캐시에 저장한 뒤 반환 (read-through)
+    // 같은 id를 동시에 요청하면 loader는 한 번만 실행되고 나머지 요청은 그 결과를 함께 받음
+    // 만료되었거나 곧 만료될 글이면 이전 값을 그대로 반환하고 loader는 뒤에서 실행함
+    public ArticleResponse get(long id, Function<Long, ArticleResponse> loader) {
+        Entry entry = cache.get(id, key -> load(key, loader));
+        if (shouldRefresh(entry)) {
+            refreshInBackground(id, entry, loader);
+        }
+
+        return entry.article();
+    }
+
+    public void put(ArticleResponse article) {
+        cache.put(article.getId(), new Entry(article, System.nanoTime(), 0));
+    }
+
+    // 수정하거나 삭제한 글은 이전 값을 반환하지 않고 바로 제거함 (수정한 사용자가 수정 결과를 바로 볼 수 있어야 함)
+    // 제거한 뒤 몰린 요청도 single-flight로 DB 조회는 한 번만 일어남
+    public void evict(long id) {
+        cache.invalidate(id);
+
+        // 트랜잭션 안에서 호출되면 커밋 이후에 한 번 더 무효화
+        // 커밋 전에 다른 요청이 이전 값을 다시 읽어 캐시에 넣었더라도 제거됨
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(id);
+                }
+            });
+        }
+    }
+
+    // 캐시에 넣은 값은 글을 수정한 사용자를 포함해 모두가 읽으므로, 로그인하지 않은 요청이나 새로 읽는 스레드가 채울 때도 원본에서 읽음
+    // (복제본에서 읽으면 수정 직후 아직 복제되지 않은 이전 글이 캐시에 남아 수정한 사용자에게도 보임)
+    private Entry load(long id, Function<Long, ArticleResponse> loader) {
+        long startedAt = System.nanoTime();
+        ArticleResponse article = ReadWriteRoutingDataSource.readFromPrimary(() -> loader.apply(id));
+        long loadedAt = System.nanoTime();
+
+        return new Entry(article, loadedAt, loadedAt - startedAt);
+    }
+
+    // XFetch: 지금 + 읽는 데 걸린 시간 * beta * -ln(0~1 난수)가 만료 시각을 넘으면 새로 읽음
+    // 만료 시각이 지났으면 항상 새로 읽음 (-ln 값은 0 이상)
+    private boolean shouldRefresh(Entry entry) {
+        long expiresAt = entry.loadedAt() + timeToLiveNanos;
+        double gap = entry.loadNanos() * earlyExpiryBeta * -Math.log(ThreadLocalRandom.current().nextDouble());
+
+        return System.nanoTime() + gap >= expiresAt;
+    }
+
+    private void refreshInBackground(long id, Entry stale, Function<Long, ArticleResponse> loader) {
+        if (!refreshing.add(id)) {
+            return;
+        }
+
+        try {
+            refresher.execute(() -> {
+                try {
+                    // 새로 읽는 사이 수정/삭제로 제거되었거나 다른 요청이 다시 채운 값은 덮어쓰지 않음
+                    cache.asMap().replace(id, stale, load(id, loader));
+                    refreshCount.increment();
+                } catch (RuntimeException e) {
+                    // 다음 요청이 다시 시도하고, 보관 기간이 끝나면 캐시에서 제거되어 DB에서 읽음
+                    log.warn("article cache refresh failed: {}", id, e);
+                } finally {
+                    refreshing.remove(id);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            refreshing.remove(id);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "article");
+    }
+
+    public ArticleCacheStatsResponse stats() {
+        CacheStats stats = cache.stats();
+
+        return new ArticleCacheStatsResponse(stats.hitCount(), stats.missCount(), stats.hitRate(),
+                stats.evictionCount(), cache.estimatedSize(), refreshCount.sum());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refresher.shutdown();
+    }
+
+}
@@ -0,0 +1,297 @@
+package com.patulus.becomeSpringDeveloper.service;
+
+import com.patulus.becomeSpringDeveloper.config.ArticleEventProperties;
+import com.patulus.becomeSpringDeveloper.domain.ArticleChangedEvent;
+import com.patulus.becomeSpringDeveloper.dto.ArticleEventResponse;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// 글 등록/수정/삭제를 SSE(Server-Sent Events)로 구독자에게 알리는 프로세스 내 이벤트 버스
+// 클라이언트가 변경을 알기 위해 목록 API를 반복 조회(polling)하지 않아도 되게 함
+// - SseEmitter는 비동기 응답이라 연결을 유지하는 동안 요청 스레드를 점유하지 않고, 이벤트는 몇 개의 전송 스레드가 나눠서 씀
+// - 구독자마다 크기가 정해진 대기열을 두어 느린 클라이언트는 가장 오래된 이벤트부터 버림 (다른 구독자와 커밋 스레드는 기다리지 않음)
+//   이벤트 id는 1씩 증가하므로 클라이언트는 id가 건너뛴 것으로 유실을 알 수 있음
+// - 전송(send)은 블로킹 쓰기이므로 쓰기 스레드에 맡기고 전송 스레드는 send-timeout까지만 기다림
+//   그보다 오래 걸리거나 넘친 대기열이 그 시간 안에 비워지지 않는 구독자는 연결을 끊음
+//   (받지 않는 클라이언트가 몇 개뿐인 전송 스레드를 붙잡지 않도록, 멈춘 쓰기는 톰캣의 쓰기 제한 시간에 실패하며 쓰기 스레드를 돌려줌)
+// - 최근 이벤트를 보관해 두었다가 재연결할 때 Last-Event-ID 이후의 이벤트를 이어서 보냄
+//   보관 범위를 벗어났거나 서버가 재시작되어 이어 보낼 수 없으면 reset 이벤트를 보내 목록을 새로 읽게 함
+@Slf4j
+@Component
+public class ArticleEventStream {
+
+    private static final String RESET_EVENT = "reset";
+
+    private record StoredEvent(long id, String name, ArticleEventResponse data) {
+    }
+
+    // 대기열에 넣는 연결 확인용 표시 (이벤트 id가 없고 주석 한 줄로 보냄)
+    private static final StoredEvent HEARTBEAT = new StoredEvent(0, null, null);
+
+    private final class Subscriber {
+
+        final SseEmitter emitter;
+        // pending, dropped, overflowedAt은 자기 자신(this)으로 동기화
+        private final Deque<StoredEvent> pending = new ArrayDeque<>();
+        private long dropped;
+        // 대기열이 넘치기 시작한 시각 (System.nanoTime), 대기열을 모두 비우면 0으로 돌아감
+        private long overflowedAt;
+        // 마지막으로 쓰기 스레드에 맡긴 전송 (연결을 끊을 때 이 전송이 끝난 뒤에 응답을 닫음)
+        volatile CompletableFuture<Void> sending = CompletableFuture.completedFuture(null);
+        // 전송 스레드 하나만 이 구독자의 대기열을 비우도록 표시
+        final AtomicBoolean draining = new AtomicBoolean();
+
+        Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        synchronized void enqueue(StoredEvent event) {
+            if (pending.size() >= properties.getSubscriberBufferSize()) {
+                pending.pollFirst();
+                dropped++;
+                if (overflowedAt == 0) {
+                    overflowedAt = System.nanoTime();
+                }
+            }
+            pending.addLast(event);
+        }
+
+        // 보낼 이벤트가 없을 때만 연결 확인용 표시를 넣음 (이벤트가 쌓여 있으면 그 전송이 연결 확인을 겸함)
+        synchronized boolean enqueueHeartbeat() {
+            if (!pending.isEmpty()) {
+                return false;
+            }
+            pending.addLast(HEARTBEAT);
+            return true;
+        }
+
+        synchronized StoredEvent poll() {
+            StoredEvent event = pending.pollFirst();
+            if (pending.isEmpty()) {
+                overflowedAt = 0;
+            }
+            return event;
+        }
+
+        synchronized boolean hasPending() {
+            return !pending.isEmpty();
+        }
+
+        synchronized boolean isStalled(long now, long timeoutNanos) {
+            return overflowedAt != 0 && now - overflowedAt > timeoutNanos;
+        }
+
+    }
+
+    private final ArticleEventProperties properties;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    // 구독자 자리, 자리를 먼저 얻은 요청만 구독하므로 동시에 구독해도 최대 구독자 수를 넘지 않음
+    private final Semaphore slots;
+    private final ThreadPoolTaskExecutor dispatcher;
+    private final ThreadPoolTaskExecutor writer;
+
+    // history와 lastId는 lock으로 보호하며, 구독 등록도 같은 잠금 안에서 해 이어 보내기와 새 이벤트 사이에 빠지거나 겹치는 이벤트가 없게 함
+    private final Object lock = new Object();
+    private final Deque<StoredEvent> history = new ArrayDeque<>();
+    private long lastId;
+
+    public ArticleEventStream(ArticleEventProperties properties) {
+        this.properties = properties;
+        this.slots = new Semaphore(properties.getMaxSubscribers());
+
+        this.dispatcher = new ThreadPoolTaskExecutor();
+        this.dispatcher.setCorePoolSize(properties.getDispatcherThreads());
+        this.dispatcher.setMaxPoolSize(properties.getDispatcherThreads());
+        // 구독자마다 실행 중이거나 기다리는 전송 작업은 하나뿐이므로 대기열은 최대 구독자 수를 넘지 않음
+        this.dispatcher.setQueueCapacity(properties.getMaxSubscribers());
+        this.dispatcher.setThreadNamePrefix("article-events-");
+        this.dispatcher.initialize();
+
+        // 쓰기 스레드는 대기열 없이 필요한 만큼 만들되, 구독자마다 진행 중인 쓰기는 하나뿐이므로 최대 구독자 수를 넘지 않음
+        // 평소에는 쓰기가 바로 끝나 전송 스레드 수만큼만 쓰이고, 멈춘 쓰기가 있을 때만 늘어남
+        this.writer = new ThreadPoolTaskExecutor();
+        this.writer.setCorePoolSize(properties.getDispatcherThreads());
+        this.writer.setMaxPoolSize(Math.max(properties.getDispatcherThreads(), properties.getMaxSubscribers()));
+        this.writer.setQueueCapacity(0);
+        this.writer.setThreadNamePrefix("article-events-write-");
+        this.writer.initialize();
+    }
+
+    // lastEventId: 재연결한 클라이언트가 보낸 Last-Event-ID (처음 연결이면 null)
+    public SseEmitter subscribe(Long lastEventId) {
+        if (!slots.tryAcquire()) {
+            throw new TooManySubscribersException(properties.getMaxSubscribers());
+        }
+
+        SseEmitter emitter = new SseEmitter(properties.getTimeout().toMillis());
+        Subscriber subscriber = new Subscriber(emitter);
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> remove(subscriber));
+
+        synchronized (lock) {
+            if (lastEventId != null) {
+                replay(subscriber, lastEventId);
+            }
+            subscribers.add(subscriber);
+        }
+        schedule(subscriber);
+
+        return emitter;
+    }
+
+    // 커밋된 변경만 알리도록 트랜잭션이 커밋된 뒤에 받음 (트랜잭션 밖에서 발행되면 바로 받음)
+    // 커밋한 스레드는 대기열에 넣기만 하고, 실제 전송은 전송 스레드가 함
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticleChanged(ArticleChangedEvent event) {
+        synchronized (lock) {
+            StoredEvent stored = new StoredEvent(++lastId, event.getType().name().toLowerCase(Locale.ROOT),
+                    new ArticleEventResponse(event));
+            history.addLast(stored);
+            if (history.size() > properties.getReplaySize()) {
+                history.removeFirst();
+            }
+            subscribers.forEach(subscriber -> subscriber.enqueue(stored));
+        }
+        subscribers.forEach(this::schedule);
+    }
+
+    // 프록시나 로드 밸런서가 유휴 연결을 끊지 않도록, 그리고 끊긴 클라이언트를 찾아 정리하도록 주기적으로 주석 한 줄을 보냄
+    // 연결 확인용 주석도 이벤트와 같은 대기열로 보내므로 구독자마다 전송 작업이 하나를 넘지 않음
+    // 주기마다 느린 구독자도 찾아 연결을 끊음
+    @Scheduled(fixedDelayString = "${blog.events.heartbeat-interval:15000}")
+    public void heartbeat() {
+        long now = System.nanoTime();
+        long timeoutNanos = properties.getSendTimeout().toNanos();
+
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.isStalled(now, timeoutNanos)) {
+                disconnect(subscriber, new TimeoutException("article event subscriber is not keeping up"));
+            } else if (subscriber.enqueueHeartbeat()) {
+                schedule(subscriber);
+            }
+        }
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        dispatcher.shutdown();
+        writer.shutdown();
+    }
+
+    private void replay(Subscriber subscriber, long lastEventId) {
+        long oldestId = history.isEmpty() ? lastId + 1 : history.peekFirst().id();
+        if (lastEventId > lastId || lastEventId < oldestId - 1) {
+            subscriber.enqueue(new StoredEvent(lastId, RESET_EVENT, null));
+            return;
+        }
+        for (StoredEvent event : history) {
+            if (event.id() > lastEventId) {
+                subscriber.enqueue(event);
+            }
+        }
+    }
+
+    private void schedule(Subscriber subscriber) {
+        if (subscriber.hasPending() && subscriber.draining.compareAndSet(false, true)) {
+            try {
+                dispatcher.execute(() -> drain(subscriber));
+            } catch (TaskRejectedException e) {
+                subscriber.draining.set(false);
+                disconnect(subscriber, e);
+            }
+        }
+    }
+
+    // 대기열이 빌 때까지 보내고, 표시를 내린 뒤 그 사이 새로 들어온 이벤트가 있으면 다시 맡음
+    private void drain(Subscriber subscriber) {
+        long timeoutNanos = properties.getSendTimeout().toNanos();
+        while (true) {
+            StoredEvent event = subscriber.poll();
+            if (event == null) {
+                subscriber.draining.set(false);
+                if (!subscriber.hasPending() || !subscriber.draining.compareAndSet(false, true)) {
+                    return;
+                }
+                continue;
+            }
+
+            SseEmitter.SseEventBuilder sseEvent = toSseEvent(event);
+            try {
+                subscriber.sending = writer.submitCompletable(() -> send(subscriber, sseEvent));
+                subscriber.sending.get(timeoutNanos, TimeUnit.NANOSECONDS);
+            } catch (TimeoutException | ExecutionException | TaskRejectedException e) {
+                disconnect(subscriber, e);
+                subscriber.draining.set(false);
+                return;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                subscriber.draining.set(false);
+                return;
+            }
+        }
+    }
+
+    private static void send(Subscriber subscriber, SseEmitter.SseEventBuilder event) {
+        try {
+            subscriber.emitter.send(event);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private SseEmitter.SseEventBuilder toSseEvent(StoredEvent event) {
+        if (event == HEARTBEAT) {
+            return SseEmitter.event().comment("heartbeat");
+        }
+
+        SseEmitter.SseEventBuilder builder = SseEmitter.event()
+                .id(Long.toString(event.id()))
+                .name(event.name());
+        return event.data() == null ? builder.data("") : builder.data(event.data(), MediaType.APPLICATION_JSON);
+    }
+
+    private void disconnect(Subscriber subscriber, Exception cause) {
+        if (remove(subscriber)) {
+            log.debug("article event subscriber disconnected (dropped {} events)", subscriber.dropped, cause);
+            // 멈춘 쓰기가 응답을 잡고 있으면 바로 닫을 수 없으므로, 그 쓰기가 끝난 뒤 쓰기 스레드에서 닫음
+            subscriber.sending.whenComplete((result, e) -> subscriber.emitter.completeWithError(cause));
+        }
+    }
+
+    // 구독 목록에서 뺀 경우에만 자리를 돌려주므로 완료/오류 콜백과 연결 끊기가 겹쳐도 한 번만 반납됨
+    private boolean remove(Subscriber subscriber) {
+        if (subscribers.remove(subscriber)) {
+            slots.release();
+            return true;
+        }
+        return false;
+    }
+
+}
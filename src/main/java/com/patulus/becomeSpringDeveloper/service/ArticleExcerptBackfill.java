@@ -0,0 +1,83 @@
+package com.patulus.becomeSpringDeveloper.service;
+
+import com.patulus.becomeSpringDeveloper.config.ArticleBatchProperties;
+import com.patulus.becomeSpringDeveloper.domain.Article;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+// 미리보기(excerpt) 컬럼이 생기기 전에 저장된 글의 미리보기를 채우는 작업
+// 한 번에 전부 수정하지 않고 청크 크기만큼 나눠 청크마다 커밋하므로 긴 트랜잭션이나 큰 잠금이 생기지 않음
+// 모든 글이 채워진 뒤에는 첫 조회에서 빈 결과가 나오므로 시작할 때마다 실행해도 비용이 거의 없음
+@Slf4j
+@Component
+public class ArticleExcerptBackfill {
+
+    private static final String SELECT_SQL = "select id, content from article where excerpt is null order by id limit ?";
+    // 조회한 뒤 그 사이 수정된 글은 이미 새 본문의 미리보기가 있으므로 덮어쓰지 않음
+    private static final String UPDATE_SQL = "update article set excerpt = ? where id = ? and excerpt is null";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ArticleBatchProperties properties;
+    private final RenderedPageCache renderedPageCache;
+
+    public ArticleExcerptBackfill(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                  ArticleBatchProperties properties, RenderedPageCache renderedPageCache) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.renderedPageCache = renderedPageCache;
+    }
+
+    // 검색 색인 재구성처럼 준비(ready) 이후 @Async 실행기에서 실행해 시작을 지연시키지 않음
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillInBackground() {
+        try {
+            backfill();
+        } catch (RuntimeException e) {
+            log.error("article excerpt backfill failed", e);
+        }
+    }
+
+    // 채운 글 수를 반환
+    public int backfill() {
+        int chunkSize = properties.getChunkSize();
+        long startedAt = System.nanoTime();
+        int total = 0;
+
+        int filled;
+        do {
+            filled = transactionTemplate.execute(status -> fillChunk(chunkSize));
+            total += filled;
+        } while (filled == chunkSize);
+
+        if (total > 0) {
+            // 미리보기 없이 렌더링해 둔 목록 화면을 버림
+            renderedPageCache.invalidateAll();
+            log.info("article excerpt backfill: {} articles in {} ms", total, (System.nanoTime() - startedAt) / 1_000_000);
+        }
+
+        return total;
+    }
+
+    private int fillChunk(int chunkSize) {
+        List<Object[]> rows = jdbcTemplate.query(SELECT_SQL,
+                (rs, rowNum) -> new Object[]{Article.excerptOf(rs.getString("content")), rs.getLong("id")},
+                chunkSize);
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_SQL, rows);
+        }
+
+        return rows.size();
+    }
+
+}
@@ -0,0 +1,220 @@
+package com.patulus.becomeSpringDeveloper.service;
+
+import com.patulus.becomeSpringDeveloper.domain.ArticleChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 글 제목/본문에 대한 프로세스 내 역색인(inverted index)
+// LIKE '%검색어%'처럼 테이블 전체를 읽지 않고, 단어 -> 그 단어가 나오는 글 목록을 미리 만들어 두고 검색함
+// 점수는 BM25로 계산하며 제목에 나온 단어는 본문보다 TITLE_WEIGHT배 높은 가중치를 줌
+// 애플리케이션 시작 후 백그라운드에서 전체 글로 색인을 만들고, 이후에는 글 변경 이벤트로 조금씩 갱신함
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ArticleSearchIndex {
+
+    private static final int TITLE_WEIGHT = 3;
+    // BM25 파라미터: K1은 단어 빈도의 포화 정도, B는 글 길이 보정 정도
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final BlogService blogService;
+
+    // 검색은 동시에 여러 요청이 읽고, 색인 갱신은 드물게 일어나므로 읽기/쓰기 잠금을 나눔
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // 역색인: 단어 -> (글 id -> 가중 빈도)
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    // 글 id -> 색인된 글 정보 (수정/삭제 시 이전 단어를 지우는 데 사용)
+    private final Map<Long, IndexedArticle> articles = new HashMap<>();
+    private long totalLength;
+
+    // 재색인 도중 삭제된 글은 재색인이 읽어 둔 이전 데이터로 다시 색인하지 않도록 기록
+    private final Set<Long> deletedWhileRebuilding = ConcurrentHashMap.newKeySet();
+    private volatile boolean rebuilding;
+
+    private record IndexedArticle(Map<String, Integer> termFrequencies, int length, LocalDateTime updatedAt) {
+    }
+
+    public record ScoredArticle(long id, double score) {
+    }
+
+    public record Result(int total, List<ScoredArticle> articles) {
+    }
+
+    // 준비(ready) 이후 @Async 실행기에서 재색인하므로 전체 글 수와 관계없이 시작이 지연되지 않음
+    // 재색인이 끝나기 전의 검색은 그때까지 색인된 글만 대상으로 함
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildInBackground() {
+        rebuild();
+    }
+
+    void rebuild() {
+        rebuilding = true;
+        long startedAt = System.nanoTime();
+        try {
+            blogService.exportAll(article -> {
+                if (!deletedWhileRebuilding.contains(article.getId())) {
+                    index(article.getId(), article.getTitle(), article.getContent(), article.getUpdatedAt());
+                }
+            });
+            log.info("article search index rebuilt: {} articles in {} ms", size(), (System.nanoTime() - startedAt) / 1_000_000);
+        } catch (RuntimeException e) {
+            log.error("article search index rebuild failed", e);
+        } finally {
+            rebuilding = false;
+            deletedWhileRebuilding.clear();
+        }
+    }
+
+    // 트랜잭션 안에서 발행된 이벤트는 커밋된 뒤에 반영하고, 트랜잭션 밖에서 발행된 이벤트는 바로 반영
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticleChanged(ArticleChangedEvent event) {
+        if (event.getType() == ArticleChangedEvent.Type.DELETED) {
+            if (rebuilding) {
+                deletedWhileRebuilding.add(event.getArticleId());
+            }
+            remove(event.getArticleId());
+        } else {
+            index(event.getArticleId(), event.getTitle(), event.getContent(), event.getUpdatedAt());
+        }
+    }
+
+    public void index(long id, String title, String content, LocalDateTime updatedAt) {
+        // 토큰화는 잠금 밖에서 처리해 쓰기 잠금을 쥐는 시간을 줄임
+        Map<String, Integer> termFrequencies = new HashMap<>();
+        ArticleTokenizer.tokenize(title).forEach(term -> termFrequencies.merge(term, TITLE_WEIGHT, Integer::sum));
+        ArticleTokenizer.tokenize(content).forEach(term -> termFrequencies.merge(term, 1, Integer::sum));
+        int length = termFrequencies.values().stream().mapToInt(Integer::intValue).sum();
+
+        lock.writeLock().lock();
+        try {
+            IndexedArticle previous = articles.get(id);
+            // 재색인이 읽어 온 스냅샷이 이벤트로 반영된 최신 글보다 오래됐다면 무시
+            if (previous != null && previous.updatedAt() != null && updatedAt != null && updatedAt.isBefore(previous.updatedAt())) {
+                return;
+            }
+            if (previous != null) {
+                removePostings(id, previous);
+            }
+
+            termFrequencies.forEach((term, frequency) -> postings.computeIfAbsent(term, key -> new HashMap<>()).put(id, frequency));
+            articles.put(id, new IndexedArticle(termFrequencies, length, updatedAt));
+            totalLength += length;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            IndexedArticle previous = articles.remove(id);
+            if (previous != null) {
+                removePostings(id, previous);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 검색어의 단어가 하나라도 나오는 글을 BM25 점수 순으로 정렬해 offset부터 limit개 반환
+    public Result search(String query, long offset, int limit) {
+        Set<String> terms = new LinkedHashSet<>(ArticleTokenizer.tokenize(query));
+        Map<Long, Double> scores = new HashMap<>();
+
+        lock.readLock().lock();
+        try {
+            int articleCount = articles.size();
+            if (articleCount == 0 || terms.isEmpty()) {
+                return new Result(0, List.of());
+            }
+            double averageLength = (double) totalLength / articleCount;
+
+            for (String term : terms) {
+                Map<Long, Integer> posting = postings.get(term);
+                if (posting == null) {
+                    continue;
+                }
+
+                int documentFrequency = posting.size();
+                double idf = Math.log(1 + (articleCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+                posting.forEach((id, frequency) -> {
+                    double lengthRatio = articles.get(id).length() / averageLength;
+                    double score = idf * frequency * (K1 + 1) / (frequency + K1 * (1 - B + B * lengthRatio));
+                    scores.merge(id, score, Double::sum);
+                });
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        if (offset >= scores.size()) {
+            return new Result(scores.size(), List.of());
+        }
+
+        // 전체를 정렬하지 않고 필요한 개수(offset + limit, 찾은 글 수 이하)만 힙으로 골라냄
+        Comparator<ScoredArticle> ranking = Comparator.comparingDouble(ScoredArticle::score)
+                .thenComparingLong(ScoredArticle::id);
+        int from = (int) offset;
+        int wanted = (int) Math.min(offset + limit, scores.size());
+        PriorityQueue<ScoredArticle> top = new PriorityQueue<>(ranking);
+        scores.forEach((id, score) -> {
+            top.offer(new ScoredArticle(id, score));
+            if (top.size() > wanted) {
+                top.poll();
+            }
+        });
+
+        List<ScoredArticle> ranked = new ArrayList<>(top);
+        ranked.sort(ranking.reversed());
+        List<ScoredArticle> page = ranked.subList(from, ranked.size());
+
+        return new Result(scores.size(), page);
+    }
+
+    public boolean isRebuilding() {
+        return rebuilding;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return articles.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void removePostings(long id, IndexedArticle article) {
+        article.termFrequencies().keySet().forEach(term -> {
+            Map<Long, Integer> posting = postings.get(term);
+            if (posting != null) {
+                posting.remove(id);
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        });
+        totalLength -= article.length();
+    }
+
+}
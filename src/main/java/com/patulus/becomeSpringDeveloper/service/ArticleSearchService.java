@@ -0,0 +1,53 @@
+package com.patulus.becomeSpringDeveloper.service;
+
+import com.patulus.becomeSpringDeveloper.dto.ArticleSearchHit;
+import com.patulus.becomeSpringDeveloper.dto.ArticleSearchResponse;
+import com.patulus.becomeSpringDeveloper.repository.ArticleSummary;
+import com.patulus.becomeSpringDeveloper.repository.BlogRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@RequiredArgsConstructor
+@Service
+public class ArticleSearchService {
+
+    public static final int DEFAULT_PAGE_SIZE = 10;
+    public static final int MAX_PAGE_SIZE = 50;
+
+    private final ArticleSearchIndex articleSearchIndex;
+    private final BlogRepository blogRepository;
+
+    // 색인에서 순위가 정해진 글 id만 받아 오고, 그 페이지에 해당하는 글의 제목/미리보기만 DB에서 조회
+    public ArticleSearchResponse search(String query, int page, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        int pageNumber = Math.max(page, 0);
+
+        // 페이지 번호가 아주 커도 int 범위를 넘지 않도록 long으로 계산 (결과 수를 넘으면 빈 페이지)
+        ArticleSearchIndex.Result result = articleSearchIndex.search(query, (long) pageNumber * pageSize, pageSize);
+        List<Long> ids = result.articles().stream()
+                .map(ArticleSearchIndex.ScoredArticle::id)
+                .toList();
+
+        Map<Long, ArticleSummary> summaries = ids.isEmpty() ? Map.of()
+                : blogRepository.findSummariesByIdIn(ids).stream()
+                        .collect(Collectors.toMap(ArticleSummary::getId, Function.identity()));
+
+        // 색인과 DB 사이에 막 삭제된 글은 결과에서 제외
+        List<ArticleSearchHit> hits = result.articles().stream()
+                .map(scored -> {
+                    ArticleSummary summary = summaries.get(scored.id());
+                    return summary == null ? null : new ArticleSearchHit(summary, scored.score());
+                })
+                .filter(Objects::nonNull)
+                .toList();
+
+        return new ArticleSearchResponse(query, result.total(), pageNumber, pageSize, articleSearchIndex.isRebuilding(), hits);
+    }
+
+}
@@ -0,0 +1,67 @@
+package com.patulus.becomeSpringDeveloper.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+// 검색 색인과 검색어에 똑같이 적용하는 토크나이저
+// 문자/숫자가 이어진 구간을 단어로 자르고 소문자로 바꿈
+// 한글/한자/일본어처럼 띄어쓰기만으로 단어를 나누기 어려운 구간은 두 글자씩 겹쳐 자름(bi-gram)
+//   예) "스프링부트" -> "스프", "프링", "링부", "부트"
+//   조사가 붙은 "스프링을"로 색인돼도 "스프링"으로 검색할 수 있음
+final class ArticleTokenizer {
+
+    private ArticleTokenizer() {
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+
+        int length = text.length();
+        int start = -1;
+        boolean cjkRun = false;
+        for (int i = 0; i <= length; ) {
+            int codePoint = i < length ? text.codePointAt(i) : ' ';
+            boolean letterOrDigit = Character.isLetterOrDigit(codePoint);
+            boolean cjk = letterOrDigit && isCjk(codePoint);
+
+            // 구분자를 만나거나 "spring부트"처럼 문자 종류가 바뀌면 그 앞까지를 한 단어로 자름
+            if (start >= 0 && (!letterOrDigit || cjk != cjkRun)) {
+                addWord(text.substring(start, i).toLowerCase(Locale.ROOT), cjkRun, tokens);
+                start = -1;
+            }
+            if (letterOrDigit && start < 0) {
+                start = i;
+                cjkRun = cjk;
+            }
+            i += i < length ? Character.charCount(codePoint) : 1;
+        }
+
+        return tokens;
+    }
+
+    private static void addWord(String word, boolean cjk, List<String> tokens) {
+        int[] codePoints = word.codePoints().toArray();
+        if (!cjk || codePoints.length == 1) {
+            tokens.add(word);
+            return;
+        }
+
+        for (int i = 0; i + 1 < codePoints.length; i++) {
+            tokens.add(new String(codePoints, i, 2));
+        }
+    }
+
+    private static boolean isCjk(int codePoint) {
+        Character.UnicodeScript script = Character.UnicodeScript.of(codePoint);
+
+        return script == Character.UnicodeScript.HANGUL
+                || script == Character.UnicodeScript.HAN
+                || script == Character.UnicodeScript.HIRAGANA
+                || script == Character.UnicodeScript.KATAKANA;
+    }
+
+}
@@ -0,0 +1,118 @@
+package com.patulus.becomeSpringDeveloper.service;
+
+import com.patulus.becomeSpringDeveloper.domain.ArticleChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// 글 조회수를 메모리에서 세고 주기적으로 모아서 article_view_stats 테이블에 반영
+// 조회마다 UPDATE article SET views = views + 1을 실행하면 모든 읽기가 쓰기가 되고 인기 글의 행 잠금에 요청이 몰리므로
+// 조회 시에는 글별 LongAdder(스레드마다 다른 칸에 더하는 카운터)만 올리고, 반영은 주기마다 글당 MERGE 한 번으로 묶어 배치 실행
+// 서버가 비정상 종료되면 마지막 반영 이후의 조회수(최대 한 주기)는 사라짐
+@Slf4j
+@Component
+public class ArticleViewCounter {
+
+    // 이미 있는 행이면 조회수를 더하고 없으면 새로 만듦
+    // 원본을 article 테이블에서 골라 그 사이 삭제된 글의 집계 행은 다시 만들지 않음
+    private static final String MERGE_SQL = "merge into article_view_stats s "
+            + "using (select a.id as article_id, cast(? as bigint) as views from article a where a.id = ?) v "
+            + "on s.article_id = v.article_id "
+            + "when matched then update set views = s.views + v.views "
+            + "when not matched then insert (article_id, views) values (v.article_id, v.views)";
+
+    private static final String DELETE_SQL = "delete from article_view_stats where article_id = ?";
+
+    private final Map<Long, LongAdder> counts = new ConcurrentHashMap<>();
+    // 반영과 삭제를 번갈아 실행해, 반영 트랜잭션이 삭제보다 늦게 커밋되어 지운 집계 행을 되살리지 않게 함
+    private final Object lock = new Object();
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public ArticleViewCounter(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        // 글 삭제 이벤트는 삭제 트랜잭션이 커밋된 뒤에 처리되므로 항상 새 트랜잭션에서 실행
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public void increment(long articleId) {
+        // 이미 센 적이 있는 글은 잠금 없이 카운터만 올림
+        LongAdder adder = counts.get(articleId);
+        if (adder == null) {
+            adder = counts.computeIfAbsent(articleId, key -> new LongAdder());
+        }
+        adder.increment();
+    }
+
+    // 마지막 반영 이후 쌓인 조회수를 한 트랜잭션에서 배치로 반영
+    // 반영에 실패하면 꺼낸 조회수를 다시 더해 두고 다음 주기에 재시도
+    @Scheduled(fixedDelayString = "${blog.view-count.flush-interval:10000}")
+    public void flush() {
+        synchronized (lock) {
+            List<Object[]> batch = new ArrayList<>();
+            counts.forEach((articleId, adder) -> {
+                long views = adder.sumThenReset();
+                if (views > 0) {
+                    batch.add(new Object[]{views, articleId});
+                } else {
+                    removeIdle(articleId, adder);
+                }
+            });
+            if (batch.isEmpty()) {
+                return;
+            }
+
+            try {
+                transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(MERGE_SQL, batch));
+            } catch (RuntimeException e) {
+                log.warn("failed to flush view counts of {} articles, retrying on next flush", batch.size(), e);
+                for (Object[] row : batch) {
+                    counts.computeIfAbsent((Long) row[1], key -> new LongAdder()).add((Long) row[0]);
+                }
+            }
+        }
+    }
+
+    // 한 주기 동안 조회되지 않은 글의 카운터는 지워 한 번 조회된 글마다 카운터가 계속 남지 않게 함
+    // 지우는 사이 이 카운터에 더해진 조회수는 새 카운터로 옮김
+    private void removeIdle(long articleId, LongAdder adder) {
+        if (counts.remove(articleId, adder)) {
+            long late = adder.sumThenReset();
+            if (late > 0) {
+                counts.computeIfAbsent(articleId, key -> new LongAdder()).add(late);
+            }
+        }
+    }
+
+    // 종료할 때 남은 조회수를 반영 (DataSource가 닫히기 전에 실행됨)
+    @EventListener(ContextClosedEvent.class)
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    // 삭제된 글의 카운터와 집계 행을 제거
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticleChanged(ArticleChangedEvent event) {
+        if (event.getType() == ArticleChangedEvent.Type.DELETED) {
+            synchronized (lock) {
+                counts.remove(event.getArticleId());
+                transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update(DELETE_SQL, event.getArticleId()));
+            }
+        }
+    }
+
+}
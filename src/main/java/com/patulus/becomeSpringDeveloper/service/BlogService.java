@@ -1,52 +1,185 @@
 package com.patulus.becomeSpringDeveloper.service;
 
 import com.patulus.becomeSpringDeveloper.domain.Article;
+import com.patulus.becomeSpringDeveloper.domain.ArticleChangedEvent;
 import com.patulus.becomeSpringDeveloper.dto.AddArticleRequest;
+import com.patulus.becomeSpringDeveloper.dto.ArticleCacheStatsResponse;
+import com.patulus.becomeSpringDeveloper.dto.ArticleCursor;
+import com.patulus.becomeSpringDeveloper.dto.ArticleListViewResponse;
+import com.patulus.becomeSpringDeveloper.dto.ArticlePageResponse;
+import com.patulus.becomeSpringDeveloper.dto.ArticleResponse;
+import com.patulus.becomeSpringDeveloper.dto.MostViewedArticleResponse;
 import com.patulus.becomeSpringDeveloper.dto.UpdateArticleRequest;
+import com.patulus.becomeSpringDeveloper.repository.ArticleListVersion;
+import com.patulus.becomeSpringDeveloper.repository.ArticleSummary;
+import com.patulus.becomeSpringDeveloper.repository.ArticleViewStatsRepository;
 import com.patulus.becomeSpringDeveloper.repository.BlogRepository;
-import jakarta.transaction.Transactional;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 // final 또는 @NotNull이 있는 필드를 파라미터로 하는 생성자를 만드는 Lombok 어노테이션
 // 여기서는 다음과 같은 생성자가 만들어진다: public BlogService(final BlogRepository blogRepository) { this.blogRepository = blogRepository; }
 @RequiredArgsConstructor
 // 스프링 빈으로 스프링 컨테이너에 등록
 @Service
+// 모든 public 메서드의 실행 시간을 blog.service 타이머(class, method 태그)로 기록하고 백분위 계산용 히스토그램도 내보냄
+@Timed(value = "blog.service", histogram = true)
 public class BlogService {
 
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+
     private final BlogRepository blogRepository;
+    private final EntityManager entityManager;
+    private final ArticleCache articleCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ArticleViewCounter articleViewCounter;
+    private final ArticleViewStatsRepository articleViewStatsRepository;
 
     // save() 메서드는 JpaRepository에서 지원하는 저장 메서드로
     // AddArticleRequest 객체(DTO)에 저장된 값을 데이터베이스에 저장
+    // 저장한 글은 곧바로 조회될 가능성이 높으므로 캐시에도 넣어 둠
     public Article save(AddArticleRequest req) {
-        return blogRepository.save(req.toEntity());
+        Article savedArticle = blogRepository.save(req.toEntity());
+        articleCache.put(new ArticleResponse(savedArticle));
+        eventPublisher.publishEvent(ArticleChangedEvent.created(savedArticle));
+
+        return savedArticle;
     }
 
+    // 읽기 전용 트랜잭션은 복제본 DB가 설정되어 있으면 복제본에서 읽음 (ReadWriteRoutingDataSource)
+    @Transactional(readOnly = true)
     public List<Article> findAll() {
         return blogRepository.findAll();
     }
 
-    public Article findById(long id) {
-        return blogRepository.findById(id).orElseThrow(() -> new IllegalArgumentException("not found: " + id));
+    // 커서 기반 목록 조회
+    // cursor가 없으면 첫 페이지, 있으면 커서가 가리키는 글 다음부터 size개를 조회
+    @Transactional(readOnly = true)
+    public ArticlePageResponse findPage(String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        // 다음 페이지가 있는지 알기 위해 한 건을 더 조회
+        PageRequest limit = PageRequest.ofSize(pageSize + 1);
+
+        List<ArticleSummary> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = blogRepository.findFirstPage(limit);
+        } else {
+            ArticleCursor after = ArticleCursor.decode(cursor);
+            rows = blogRepository.findPageAfter(after.getCreatedAt(), after.getId(), limit);
+        }
+
+        boolean hasNext = rows.size() > pageSize;
+        List<ArticleSummary> page = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            ArticleSummary last = page.get(page.size() - 1);
+            nextCursor = new ArticleCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        return new ArticlePageResponse(page.stream().map(ArticleListViewResponse::new).toList(), nextCursor);
+    }
+
+    // 전체 글 내보내기
+    // 스트림에서 한 건씩 꺼내 consumer에 넘긴 뒤 바로 영속성 컨텍스트에서 분리(detach)하므로
+    // 글이 아무리 많아도 메모리에는 JDBC fetch size 만큼의 행만 유지됨
+    @Transactional(readOnly = true)
+    public void exportAll(Consumer<ArticleResponse> consumer) {
+        try (Stream<Article> articles = blogRepository.streamAll()) {
+            articles.forEach(article -> {
+                consumer.accept(new ArticleResponse(article));
+                entityManager.detach(article);
+            });
+        }
+    }
+
+    // 글 읽기(상세 화면, 단건 조회 API), 조회수를 하나 올림
+    // 조회수는 메모리 카운터에만 더하고 DB에는 주기적으로 모아서 반영하므로 읽기가 쓰기로 바뀌지 않음
+    public ArticleResponse findById(long id) {
+        ArticleResponse article = findByIdWithoutViewCount(id);
+        articleViewCounter.increment(id);
+
+        return article;
+    }
+
+    // 조회수에 넣지 않는 조회 (수정 화면, 수정 후 응답)
+    // 캐시에 있으면 DB를 조회하지 않고 반환
+    // 캐시에 적중할 때 트랜잭션을 열지 않도록 @Transactional을 붙이지 않음, 캐시에 없을 때 실행되는 findById는 저장소의 읽기 전용 트랜잭션에서 원본을 읽음 (ArticleCache 참고)
+    public ArticleResponse findByIdWithoutViewCount(long id) {
+        return articleCache.get(id, key -> blogRepository.findById(key)
+                .map(ArticleResponse::new)
+                .orElseThrow(() -> new IllegalArgumentException("not found: " + key)));
+    }
+
+    // 조회수가 많은 글 limit개 (집계 테이블 기준)
+    @Transactional(readOnly = true)
+    public List<MostViewedArticleResponse> findMostViewed(int limit) {
+        int size = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+
+        return articleViewStatsRepository.findMostViewed(PageRequest.ofSize(size)).stream()
+                .map(MostViewedArticleResponse::new)
+                .toList();
+    }
+
+    // 글 본문을 읽지 않고 마지막 수정 시각만 조회
+    @Transactional(readOnly = true)
+    public Optional<LocalDateTime> findLastModified(long id) {
+        return blogRepository.findUpdatedAtById(id);
+    }
+
+    @Transactional(readOnly = true)
+    public ArticleListVersion findListVersion() {
+        return blogRepository.findListVersion();
     }
 
     public void delete(long id) {
         blogRepository.deleteById(id);
+        articleCache.evict(id);
+        eventPublisher.publishEvent(ArticleChangedEvent.deleted(id));
+    }
+
+    public ArticleCacheStatsResponse cacheStats() {
+        return articleCache.stats();
     }
 
     // @Transactional 애너테이션은 매칭한 메서드에서 발생하는 쿼리를 하나의 트랜잭션으로 묶음
     // * 트랜잭션: 쿼리 한 줄로는 해결할 수 없어 여러 개의 쿼리를 처리해야 하는 상황에서 문제가 생기면 시스템에 문제가 생길 수 있음
     //            대개 데이터베이스의 값을 추가, 변경, 삭제하는 메서드에는 @Transactional 애너테이션을 사용해 쿼리를 묶어 처리함
+    // 엔티티를 조회한 뒤 변경 감지로 수정하지 않고 UPDATE 쿼리 한 번으로 수정
+    // 요청에 version이 있으면 그 버전일 때만 수정하고, 그 사이 다른 사용자가 수정했다면 예외를 던짐
     @Transactional
-    public Article update(long id, UpdateArticleRequest req) {
-        Article article = blogRepository.findById(id).orElseThrow(() -> new IllegalArgumentException("not found: " + id));
+    public void update(long id, UpdateArticleRequest req) {
+        // @LastModifiedDate는 벌크 UPDATE에 적용되지 않으므로 직접 지정
+        LocalDateTime now = LocalDateTime.now();
+        // 엔티티를 거치지 않으므로 미리보기도 직접 계산
+        String excerpt = Article.excerptOf(req.getContent());
 
-        article.update(req.getTitle(), req.getContent());
+        int updatedCount = req.getVersion() == null
+                ? blogRepository.updateContent(id, req.getTitle(), req.getContent(), excerpt, now)
+                : blogRepository.updateIfVersionMatches(id, req.getVersion(), req.getTitle(), req.getContent(), excerpt, now);
 
-        return article;
+        if (updatedCount == 0) {
+            // 수정된 행이 없는 경우에만 원인을 확인하기 위해 추가 조회
+            if (!blogRepository.existsById(id)) {
+                throw new IllegalArgumentException("not found: " + id);
+            }
+            throw new ObjectOptimisticLockingFailureException(Article.class, id);
+        }
+
+        articleCache.evict(id);
+        eventPublisher.publishEvent(ArticleChangedEvent.updated(id, req.getTitle(), req.getContent(), now));
     }
 
 }
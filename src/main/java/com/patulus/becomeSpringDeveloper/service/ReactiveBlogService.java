@@ -0,0 +1,29 @@
+package com.patulus.becomeSpringDeveloper.service;
+
+import com.patulus.becomeSpringDeveloper.dto.ArticleResponse;
+import com.patulus.becomeSpringDeveloper.repository.ReactiveArticleRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+// 논블로킹 읽기 API(/api/v2/articles)용 서비스
+// 조회 결과를 Flux/Mono로 반환하므로 요청 스레드가 DB 응답을 기다리며 묶여 있지 않음
+@Service
+@RequiredArgsConstructor
+public class ReactiveBlogService {
+
+    private final ReactiveArticleRepository reactiveArticleRepository;
+    private final ArticleViewCounter articleViewCounter;
+
+    public Flux<ArticleResponse> findAll() {
+        return reactiveArticleRepository.findAll();
+    }
+
+    // 기존 단건 조회(BlogService.findById)와 같이 조회수를 하나 올림, 글이 없으면 빈 Mono
+    public Mono<ArticleResponse> findById(long id) {
+        return reactiveArticleRepository.findById(id)
+                .doOnNext(article -> articleViewCounter.increment(article.getId()));
+    }
+
+}
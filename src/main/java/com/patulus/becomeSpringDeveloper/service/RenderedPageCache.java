@@ -0,0 +1,129 @@
+package com.patulus.becomeSpringDeveloper.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.patulus.becomeSpringDeveloper.config.ReadWriteRoutingDataSource;
+import com.patulus.becomeSpringDeveloper.config.RenderedPageCacheProperties;
+import com.patulus.becomeSpringDeveloper.domain.ArticleChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+// 글 목록(/articles)과 글 상세(/articles/{id}) 화면을 렌더링한 결과(HTML 바이트)를 보관하는 캐시
+// 템플릿을 매번 다시 렌더링하지 않고 인코딩이 끝난 바이트 배열(필요하면 gzip 압축본까지)을 그대로 응답에 씀
+// 캐시되는 화면에는 사용자별 내용이 없어야 함 (로그인 사용자 이름, CSRF 토큰이 들어간 폼 등)
+// MeterBinder 빈이므로 캐시 통계가 cache.* 지표(cache=page 태그)로 자동 등록됨
+@Component
+public class RenderedPageCache implements MeterBinder {
+
+    // 상세 화면 키: 글 id와 수정 시각, 글이 수정되면 키가 달라지므로 이전 화면이 다시 쓰이지 않음
+    private record ArticleKey(long id, LocalDateTime updatedAt) {
+    }
+
+    // 목록 화면 키: 커서와 목록 버전, 글이 등록/수정/삭제될 때마다 버전이 올라가므로 이전 목록 화면이 다시 쓰이지 않음
+    private record ListKey(String cursor, long version) {
+    }
+
+    // 렌더링된 HTML(UTF-8)과 gzip 압축본 (압축하지 않았으면 null)
+    public record RenderedPage(byte[] html, byte[] gzipped) {
+
+        int weight() {
+            return html.length + (gzipped == null ? 0 : gzipped.length);
+        }
+
+    }
+
+    // 값은 렌더링 결과를 담을 CompletableFuture
+    // 캐시에는 빈 future만 넣고 렌더링은 캐시 밖(요청 스레드)에서 하므로, 렌더링이 오래 걸려도 같은 해시 버킷의 다른 키를 막지 않음
+    private final AsyncCache<Object, RenderedPage> cache;
+    private final boolean gzip;
+    private final long gzipMinSize;
+    private final AtomicLong listVersion = new AtomicLong();
+
+    public RenderedPageCache(RenderedPageCacheProperties properties) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(properties.getMaximumSize().toBytes())
+                .weigher((Object key, RenderedPage page) -> page.weight())
+                .recordStats()
+                .buildAsync();
+        this.gzip = properties.isGzip();
+        this.gzipMinSize = properties.getGzipMinSize().toBytes();
+    }
+
+    public RenderedPage getArticle(long id, LocalDateTime updatedAt, Supplier<byte[]> renderer) {
+        return get(new ArticleKey(id, updatedAt), renderer);
+    }
+
+    // 렌더링을 시작하기 전에 버전을 읽어 키로 사용하므로
+    // 렌더링 도중 글이 바뀌면 그 결과는 이전 버전 키로 저장되어 다시 쓰이지 않음
+    public RenderedPage getList(String cursor, Supplier<byte[]> renderer) {
+        return get(new ListKey(cursor == null ? "" : cursor, listVersion.get()), renderer);
+    }
+
+    // 글이 바뀌면 목록 버전만 올림 (상세 화면은 수정 시각이 키에 들어 있으므로 따로 할 일이 없음)
+    // 키를 훑어 지우지 않으므로 대량 등록처럼 이벤트가 연달아 와도 이벤트마다 드는 비용이 일정함
+    // 이전 버전 키의 화면은 더 이상 조회되지 않으므로 최대 크기를 넘을 때 먼저 제거됨
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticleChanged(ArticleChangedEvent event) {
+        listVersion.incrementAndGet();
+    }
+
+    // 이벤트 없이 DB를 직접 바꾼 경우(대량 삭제 등) 캐시 전체를 비움
+    public void invalidateAll() {
+        listVersion.incrementAndGet();
+        cache.synchronous().invalidateAll();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "page");
+    }
+
+    // 같은 화면을 동시에 요청하면 먼저 빈 future를 넣은 요청만 renderer를 실행하고, 나머지는 그 결과를 기다림
+    // 렌더링에 실패하면 future가 예외로 끝나 캐시에서 제거되므로 다음 요청이 다시 렌더링함
+    // 렌더링한 화면은 모두가 함께 보므로 렌더링 중의 조회는 복제본이 아니라 원본에서 함 (아직 복제되지 않은 변경이 빠진 화면이 남지 않게 함)
+    private RenderedPage get(Object key, Supplier<byte[]> renderer) {
+        CompletableFuture<RenderedPage> rendering = new CompletableFuture<>();
+        CompletableFuture<RenderedPage> page = cache.get(key, (k, executor) -> rendering);
+
+        if (page == rendering) {
+            try {
+                rendering.complete(encode(ReadWriteRoutingDataSource.readFromPrimary(renderer)));
+            } catch (RuntimeException e) {
+                rendering.completeExceptionally(e);
+                throw e;
+            }
+        }
+
+        return page.join();
+    }
+
+    private RenderedPage encode(byte[] html) {
+        if (!gzip || html.length < gzipMinSize) {
+            return new RenderedPage(html, null);
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(html.length / 4);
+        try (GZIPOutputStream gzipOut = new GZIPOutputStream(out)) {
+            gzipOut.write(html);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        byte[] gzipped = out.toByteArray();
+
+        // 압축본이 더 크면 원본만 보관
+        return new RenderedPage(html, gzipped.length < html.length ? gzipped : null);
+    }
+
+}
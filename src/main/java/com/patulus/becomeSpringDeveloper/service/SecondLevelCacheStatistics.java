@@ -0,0 +1,51 @@
+package com.patulus.becomeSpringDeveloper.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.patulus.becomeSpringDeveloper.config.SecondLevelCacheProperties;
+import com.patulus.becomeSpringDeveloper.dto.CacheRegionStatsResponse;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+import javax.cache.CacheManager;
+import java.util.List;
+
+// 하이버네이트 2차 캐시 영역별 적중률 (hibernate.generate_statistics가 켜져 있어야 횟수가 쌓임)
+@Component
+public class SecondLevelCacheStatistics {
+
+    private final Statistics statistics;
+    private final CacheManager secondLevelCacheManager;
+    private final SecondLevelCacheProperties properties;
+
+    public SecondLevelCacheStatistics(EntityManagerFactory entityManagerFactory, CacheManager secondLevelCacheManager,
+                                      SecondLevelCacheProperties properties) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        this.secondLevelCacheManager = secondLevelCacheManager;
+        this.properties = properties;
+    }
+
+    // 설정한 순서대로 영역마다 통계를 모음, 아직 한 번도 쓰이지 않아 하이버네이트가 모르는 영역은 0으로 보여 줌
+    public List<CacheRegionStatsResponse> regions() {
+        return properties.getRegions().keySet().stream()
+                .map(this::region)
+                .toList();
+    }
+
+    private CacheRegionStatsResponse region(String name) {
+        CacheRegionStatistics region = statistics.getCacheRegionStatistics(name);
+        long hitCount = region == null ? 0 : region.getHitCount();
+        long missCount = region == null ? 0 : region.getMissCount();
+        long putCount = region == null ? 0 : region.getPutCount();
+        long requestCount = hitCount + missCount;
+        double hitRate = requestCount == 0 ? 0 : (double) hitCount / requestCount;
+
+        // JCache 영역은 하이버네이트 통계로 항목 수를 알 수 없으므로 Caffeine 캐시에서 직접 읽음
+        long size = secondLevelCacheManager.getCache(name).unwrap(Cache.class).estimatedSize();
+
+        return new CacheRegionStatsResponse(name, hitCount, missCount, putCount, hitRate, size);
+    }
+
+}
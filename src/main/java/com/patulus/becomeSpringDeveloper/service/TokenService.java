@@ -0,0 +1,60 @@
+package com.patulus.becomeSpringDeveloper.service;
+
+import com.patulus.becomeSpringDeveloper.config.ReadWriteRoutingDataSource;
+import com.patulus.becomeSpringDeveloper.config.jwt.JwtProperties;
+import com.patulus.becomeSpringDeveloper.config.jwt.TokenProvider;
+import com.patulus.becomeSpringDeveloper.config.jwt.TokenType;
+import com.patulus.becomeSpringDeveloper.domain.RefreshToken;
+import com.patulus.becomeSpringDeveloper.domain.User;
+import com.patulus.becomeSpringDeveloper.dto.CreateTokenResponse;
+import com.patulus.becomeSpringDeveloper.repository.RefreshTokenRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class TokenService {
+
+    private final TokenProvider tokenProvider;
+    private final JwtProperties jwtProperties;
+    private final DaoAuthenticationProvider authenticationProvider;
+    private final UserService userService;
+    private final RefreshTokenRepository refreshTokenRepository;
+
+    // 이메일과 비밀번호를 폼 로그인과 같은 인증 제공자로 확인한 뒤 액세스 토큰과 리프레시 토큰을 발급
+    // 비밀번호가 틀리면 BadCredentialsException 발생
+    @Transactional
+    public CreateTokenResponse createTokens(String email, String password) {
+        authenticationProvider.authenticate(UsernamePasswordAuthenticationToken.unauthenticated(email, password));
+        User user = userService.findByEmail(email);
+
+        String refreshToken = tokenProvider.generateToken(user, jwtProperties.getRefreshTokenTtl(), TokenType.REFRESH);
+        refreshTokenRepository.findByUserId(user.getId())
+                .map(entity -> entity.update(refreshToken))
+                .orElseGet(() -> refreshTokenRepository.save(new RefreshToken(user.getId(), refreshToken)));
+
+        return new CreateTokenResponse(tokenProvider.generateToken(user, jwtProperties.getAccessTokenTtl(), TokenType.ACCESS), refreshToken);
+    }
+
+    // 리프레시 토큰의 서명과 만료 시간, 종류를 확인하고, DB에 저장된 토큰과 같을 때만 새 액세스 토큰을 발급
+    // 토큰만 가진 요청은 로그인 사용자로 구분되지 않아 read-your-writes가 적용되지 않으므로,
+    // 방금 발급해 아직 복제되지 않은 토큰도 찾도록 저장된 토큰은 원본에서 읽음
+    @Transactional(readOnly = true)
+    public String createNewAccessToken(String refreshToken) {
+        if (!tokenProvider.validToken(refreshToken, TokenType.REFRESH)) {
+            throw new BadCredentialsException("Unexpected token");
+        }
+
+        Long userId = ReadWriteRoutingDataSource.readFromPrimary(() -> refreshTokenRepository.findByRefreshToken(refreshToken))
+                .orElseThrow(() -> new BadCredentialsException("Unexpected token"))
+                .getUserId();
+        User user = userService.findById(userId);
+
+        return tokenProvider.generateToken(user, jwtProperties.getAccessTokenTtl(), TokenType.ACCESS);
+    }
+
+}
@@ -0,0 +1,12 @@
+package com.patulus.becomeSpringDeveloper.service;
+
+// 글 변경 이벤트 스트림의 구독자 수가 최대치에 이르러 새 구독을 거절할 때 발생
+public class TooManySubscribersException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public TooManySubscribersException(int maxSubscribers) {
+        super("too many article event subscribers: " + maxSubscribers);
+    }
+
+}
@@ -0,0 +1,88 @@
+package com.patulus.becomeSpringDeveloper.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.patulus.becomeSpringDeveloper.config.UserCacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.userdetails.UserCache;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+// 폼 로그인 시 DaoAuthenticationProvider가 사용하는 사용자 캐시
+// 로그인할 때마다 UserDetailsService -> UserRepository.findByEmail로 DB를 조회하지 않도록 이메일을 키로 사용자 정보를 보관함
+// 영속성 컨텍스트에 묶인 User 엔티티 대신 이메일, 비밀번호 해시, 권한만 담은 불변 스냅샷을 저장함
+// 캐시된 비밀번호가 입력과 맞지 않으면 DaoAuthenticationProvider가 DB에서 다시 읽어 확인하므로, 다른 곳에서 바뀐 비밀번호도 반영됨
+// MeterBinder 빈이므로 캐시 통계가 cache.* 지표(cache=user 태그)로 자동 등록됨
+@Component
+public class UserDetailsCache implements UserCache, MeterBinder {
+
+    private final Cache<String, Snapshot> cache;
+
+    public UserDetailsCache(UserCacheProperties properties) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getTimeToLive())
+                .recordStats()
+                .build();
+    }
+
+    // 인증이 끝나면 스프링 시큐리티가 인증 객체의 비밀번호를 지우므로(eraseCredentials) 매번 새 UserDetails를 만들어 반환
+    // 반환한 객체가 지워져도 캐시된 스냅샷은 그대로 남음
+    @Override
+    public UserDetails getUserFromCache(String username) {
+        Snapshot snapshot = cache.getIfPresent(username);
+        return snapshot == null ? null : snapshot.toUserDetails();
+    }
+
+    @Override
+    public void putUserInCache(UserDetails user) {
+        cache.put(user.getUsername(), Snapshot.of(user));
+    }
+
+    // 회원 가입, 비밀번호 변경처럼 사용자 정보가 바뀌면 호출
+    @Override
+    public void removeUserFromCache(String username) {
+        cache.invalidate(username);
+
+        // 트랜잭션 안에서 호출되면 커밋 이후에 한 번 더 무효화
+        // 커밋 전에 다른 로그인 요청이 이전 비밀번호를 다시 읽어 캐시에 넣었더라도 제거됨
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(username);
+                }
+            });
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "user");
+    }
+
+    private record Snapshot(String username, String password, List<String> authorities, boolean enabled,
+                            boolean accountNonExpired, boolean credentialsNonExpired, boolean accountNonLocked) {
+
+        static Snapshot of(UserDetails user) {
+            return new Snapshot(user.getUsername(), user.getPassword(),
+                    List.copyOf(AuthorityUtils.authorityListToSet(user.getAuthorities())),
+                    user.isEnabled(), user.isAccountNonExpired(), user.isCredentialsNonExpired(), user.isAccountNonLocked());
+        }
+
+        UserDetails toUserDetails() {
+            List<GrantedAuthority> grantedAuthorities = AuthorityUtils.createAuthorityList(authorities);
+            return new org.springframework.security.core.userdetails.User(username, password, enabled,
+                    accountNonExpired, credentialsNonExpired, accountNonLocked, grantedAuthorities);
+        }
+    }
+
+}
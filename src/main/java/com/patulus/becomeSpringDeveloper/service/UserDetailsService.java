@@ -1,20 +1,40 @@
 package com.patulus.becomeSpringDeveloper.service;
 
+import com.patulus.becomeSpringDeveloper.config.ReadWriteRoutingDataSource;
 import com.patulus.becomeSpringDeveloper.domain.User;
 import com.patulus.becomeSpringDeveloper.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
-public class UserDetailsService implements org.springframework.security.core.userdetails.UserDetailsService {
+public class UserDetailsService implements org.springframework.security.core.userdetails.UserDetailsService, UserDetailsPasswordService {
     
     private final UserRepository userRepository;
+    private final UserDetailsCache userDetailsCache;
     
+    // 읽은 사용자는 로그인에 성공하면 UserDetailsCache에 저장되어 모든 로그인이 함께 쓰므로 원본에서 읽음
+    // (복제본에서 읽으면 가입 직후 로그인이 실패하거나, 바뀌기 전 비밀번호 해시가 캐시에 남을 수 있음)
     @Override
     public User loadUserByUsername(String email) throws UsernameNotFoundException {
-        return userRepository.findByEmail(email)
+        return ReadWriteRoutingDataSource.readFromPrimary(() -> userRepository.findByEmail(email))
             .orElseThrow(() -> new IllegalArgumentException((email)));
     }
+    
+    // 로그인에 성공했는데 저장된 해시가 현재 해싱 설정(알고리즘, 강도)과 다르면 DaoAuthenticationProvider가
+    // 입력한 비밀번호를 새 설정으로 해싱해 호출함
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        User entity = loadUserByUsername(user.getUsername());
+        entity.updatePassword(newPassword);
+        // 캐시에 남은 이전 해시로 다시 비교하지 않도록 무효화
+        userDetailsCache.removeUserFromCache(user.getUsername());
+        
+        return entity;
+    }
 }
@@ -1,24 +1,52 @@
 package com.patulus.becomeSpringDeveloper.service;
 
+import com.patulus.becomeSpringDeveloper.config.BoundedPasswordEncoder;
 import com.patulus.becomeSpringDeveloper.domain.User;
 import com.patulus.becomeSpringDeveloper.dto.AddUserRequest;
 import com.patulus.becomeSpringDeveloper.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.CompletableFuture;
+
 @Service
 @RequiredArgsConstructor
 public class UserService {
     
     private final UserRepository userRepository;
-    private final BCryptPasswordEncoder bCryptPasswordEncoder;
+    private final BoundedPasswordEncoder passwordEncoder;
+    private final UserDetailsCache userDetailsCache;
     
     public Long save(AddUserRequest dto) {
-        return userRepository.save(User.builder()
-            .email(dto.getEmail())
-            .password(bCryptPasswordEncoder.encode(dto.getPassword()))
+        return saveEncoded(dto.getEmail(), passwordEncoder.encode(dto.getPassword()));
+    }
+    
+    // 비밀번호 해싱을 해싱 전용 스레드 풀에 맡기고 바로 반환하며, 해싱이 끝나면 그 스레드에서 이어서 저장
+    // 해싱 대기열이 가득 차면 PasswordHashingRejectedException 발생
+    public CompletableFuture<Long> saveAsync(AddUserRequest dto) {
+        return passwordEncoder.encodeAsync(dto.getPassword())
+            .thenApply(encodedPassword -> saveEncoded(dto.getEmail(), encodedPassword));
+    }
+    
+    private Long saveEncoded(String email, String encodedPassword) {
+        Long id = userRepository.save(User.builder()
+            .email(email)
+            .password(encodedPassword)
             .build()).getId();
+        // 로그인 캐시에 같은 이메일의 이전 정보가 남아 있지 않도록 무효화
+        userDetailsCache.removeUserFromCache(email);
+        
+        return id;
+    }
+    
+    public User findById(Long userId) {
+        return userRepository.findById(userId)
+            .orElseThrow(() -> new IllegalArgumentException("Unexpected user"));
+    }
+    
+    public User findByEmail(String email) {
+        return userRepository.findByEmail(email)
+            .orElseThrow(() -> new IllegalArgumentException("Unexpected user"));
     }
     
 }
@@ -0,0 +1,38 @@
+-- 초기 스키마: 현재 엔티티(Article, ArticleViewStats, RefreshToken, User)와 같은 스키마를 빈 데이터베이스에 만듦
+-- 인메모리 H2로 실행하므로 시작할 때마다 빈 데이터베이스에 이 버전부터 적용됨
+
+-- Article의 식별자 시퀀스 (allocationSize = 50과 같은 증가 폭)
+create sequence article_seq start with 1 increment by 50;
+
+create table article (
+    created_at timestamp(6),
+    id         bigint       not null,
+    updated_at timestamp(6),
+    version    bigint       not null,
+    excerpt    varchar(200),
+    content    varchar(255) not null,
+    title      varchar(255) not null,
+    primary key (id)
+);
+
+create table article_view_stats (
+    article_id bigint not null,
+    views      bigint not null,
+    primary key (article_id)
+);
+
+create table refresh_token (
+    id            bigint generated by default as identity,
+    user_id       bigint       not null unique,
+    refresh_token varchar(255) not null,
+    primary key (id)
+);
+
+create table users (
+    id       bigint generated by default as identity,
+    email    varchar(255) not null unique,
+    password varchar(255),
+    primary key (id)
+);
+
+create index idx_article_view_stats_views on article_view_stats (views);
@@ -0,0 +1,17 @@
+-- 자주 실행되는 조회의 인덱스
+-- 쿼리와 실행 계획은 RepositoryQueryPlanTest에서 EXPLAIN으로 확인함
+
+-- 글 목록 키셋 페이지 (order by created_at desc, id desc)
+-- 정렬 순서와 같은 순서의 인덱스라 정렬 없이 앞에서부터 LIMIT만큼 읽고, 다음 페이지는 커서 위치부터 읽음
+create index idx_article_created_at_id on article (created_at desc, id desc);
+
+-- 목록 버전(max(updated_at), 목록 ETag와 렌더링 캐시 키에 사용): 테이블을 읽지 않고 인덱스 끝 값만 읽음
+create index idx_article_updated_at on article (updated_at);
+
+-- 리프레시 토큰으로 새 액세스 토큰을 발급할 때의 조회
+create index idx_refresh_token_refresh_token on refresh_token (refresh_token);
+
+-- 조회수 순위 (order by views desc, article_id desc)
+-- views 하나만 있는 인덱스는 같은 조회수끼리의 순서를 정할 수 없어 전체를 읽고 정렬했으므로 정렬 순서와 같은 인덱스로 바꿈
+drop index idx_article_view_stats_views;
+create index idx_article_view_stats_views on article_view_stats (views desc, article_id desc);
@@ -26,9 +26,14 @@ if (modifyButton) {
             },
             body: JSON.stringify({
                 title: document.getElementById('title').value,
-                content: document.getElementById('content').value
+                content: document.getElementById('content').value,
+                version: document.getElementById('article-version').value
             })
-        }).then(() => {
+        }).then((response) => {
+            if (response.status === 409) {
+                alert("다른 사용자가 먼저 글을 수정했습니다. 새로고침 후 다시 수정해 주세요.");
+                return;
+            }
             alert("수정이 완료되었습니다.");
             location.replace(`/articles/${id}`)
         })
@@ -53,4 +58,24 @@ if (createButton) {
             location.replace(`/articles`)
         })
     })
-}
\ No newline at end of file
+}
+
+// 목록 화면에서는 목록 API를 반복 조회하지 않고 글 변경 이벤트(SSE)를 구독해, 변경이 있으면 새로고침 버튼을 보여줌
+// 연결이 끊기면 EventSource가 Last-Event-ID를 보내며 자동으로 재연결함
+if (createButton && window.EventSource) {
+    const events = new EventSource('/api/articles/events')
+    const showRefreshNotice = () => {
+        if (document.getElementById('refresh-notice')) {
+            return
+        }
+        const notice = document.createElement('button')
+        notice.id = 'refresh-notice'
+        notice.type = 'button'
+        notice.className = 'btn btn-warning btn-sm mb-3 ms-2'
+        notice.textContent = '글이 변경되었습니다. 새로고침'
+        notice.addEventListener('click', () => location.reload())
+        createButton.after(notice)
+    }
+
+    ['created', 'updated', 'deleted', 'reset'].forEach((type) => events.addEventListener(type, showRefreshNotice))
+}
@@ -0,0 +1,244 @@
+package com.patulus.becomeSpringDeveloper.articleCache;
+
+import com.patulus.becomeSpringDeveloper.config.ArticleCacheProperties;
+import com.patulus.becomeSpringDeveloper.config.SqlStatementCounter;
+import com.patulus.becomeSpringDeveloper.domain.Article;
+import com.patulus.becomeSpringDeveloper.dto.ArticleResponse;
+import com.patulus.becomeSpringDeveloper.repository.BlogRepository;
+import com.patulus.becomeSpringDeveloper.service.ArticleCache;
+import com.patulus.becomeSpringDeveloper.service.BlogService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verify;
+
+// 많이 읽히는 글이 수정되거나 만료될 때 몰린 요청이 DB로 한꺼번에 가지 않는지(cache stampede) 확인
+@SpringBootTest
+public class ArticleCacheTest {
+
+    private static final int REQUESTS = 1000;
+
+    @SpyBean
+    SqlStatementCounter sqlStatementCounter;
+
+    @Autowired
+    BlogService blogService;
+
+    @Autowired
+    ArticleCache articleCache;
+
+    @Autowired
+    BlogRepository blogRepository;
+
+    @BeforeEach
+    public void setUp() {
+        blogRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("findById: 캐시에 없는 글을 동시에 1000번 요청해도 글마다 SELECT는 한 번만 실행한다.")
+    public void findByIdConcurrently() throws Exception {
+        // given: 글 4개를 저장하고 수정 직후처럼 글 캐시에서 제거합니다.
+        List<Article> articles = blogRepository.saveAll(IntStream.range(0, 4)
+                .mapToObj(i -> Article.builder().title("제목" + i).content("내용" + i).build())
+                .toList());
+        articles.forEach(article -> articleCache.evict(article.getId()));
+
+        // DB 조회가 끝나기 전에 다른 요청이 모두 도착하도록 SELECT마다 시간을 끎
+        doAnswer(invocation -> {
+            Thread.sleep(200);
+            return invocation.callRealMethod();
+        }).when(sqlStatementCounter).inspect(anyString());
+        clearInvocations(sqlStatementCounter);
+
+        // when : 1000개 요청이 동시에 출발해 4개 글을 나눠 조회합니다.
+        List<Callable<ArticleResponse>> requests = IntStream.range(0, REQUESTS)
+                .mapToObj(i -> (Callable<ArticleResponse>) () -> blogService.findByIdWithoutViewCount(
+                        articles.get(i % articles.size()).getId()))
+                .toList();
+        List<ArticleResponse> responses = runConcurrently(requests, REQUESTS);
+
+        // then : 모든 요청이 자기 글을 받았고, 글마다 SELECT가 한 번씩만 실행되었는지 확인합니다.
+        for (int i = 0; i < REQUESTS; i++) {
+            assertThat(responses.get(i).getTitle()).isEqualTo(articles.get(i % articles.size()).getTitle());
+        }
+
+        ArgumentCaptor<String> statements = ArgumentCaptor.forClass(String.class);
+        verify(sqlStatementCounter, atLeastOnce()).inspect(statements.capture());
+        long selects = statements.getAllValues().stream()
+                .filter(sql -> sql.startsWith("select") && sql.contains(" article "))
+                .count();
+
+        assertThat(selects).isEqualTo(articles.size());
+    }
+
+    @Test
+    @DisplayName("get: 만료된 글은 뒤에서 한 번만 새로 읽고, 그동안 동시에 들어온 요청에는 이전 값을 반환한다.")
+    public void staleWhileRevalidate() throws Exception {
+        // given: 만료 시간이 짧은 캐시에 글을 올리고 만료될 때까지 기다립니다.
+        ArticleCacheProperties properties = new ArticleCacheProperties();
+        properties.setTimeToLive(Duration.ofSeconds(1));
+        properties.setStaleWhileRevalidate(Duration.ofMinutes(1));
+        properties.setEarlyExpiryBeta(0);
+        ArticleCache articleCache = new ArticleCache(properties);
+
+        articleCache.get(1L, id -> article(id, "이전 제목"));
+        Thread.sleep(1100);
+
+        // 새로 읽는 작업은 latch가 열릴 때까지 끝나지 않음
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+        Function<Long, ArticleResponse> loader = id -> {
+            loads.incrementAndGet();
+            await(release);
+            return article(id, "새 제목");
+        };
+
+        try {
+            // when : 새로 읽는 중에 1000개 요청이 동시에 같은 글을 조회합니다.
+            List<ArticleResponse> responses = runConcurrently(IntStream.range(0, REQUESTS)
+                    .mapToObj(i -> (Callable<ArticleResponse>) () -> articleCache.get(1L, loader))
+                    .toList(), 100);
+
+            // then : 모든 요청이 기다리지 않고 이전 값을 받았고, DB 조회는 한 번만 시작되었는지 확인합니다.
+            assertThat(responses).allSatisfy(response -> assertThat(response.getTitle()).isEqualTo("이전 제목"));
+            assertThat(loads.get()).isEqualTo(1);
+
+            // then : 새로 읽기가 끝나면 새 값을 반환하는지 확인합니다.
+            release.countDown();
+            assertThat(awaitTitle(articleCache, loader, "새 제목")).isTrue();
+            assertThat(loads.get()).isEqualTo(1);
+            assertThat(articleCache.stats().getRefreshCount()).isEqualTo(1);
+        } finally {
+            release.countDown();
+            articleCache.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("get: 만료 전이라도 early-expiry-beta가 크면 확률적으로 미리 새로 읽고, 0이면 미리 읽지 않는다.")
+    public void earlyExpiry() throws Exception {
+        // given: 만료 시간은 길지만 읽는 데 시간이 걸리는 글을 캐시에 올립니다.
+        AtomicInteger loads = new AtomicInteger();
+        Function<Long, ArticleResponse> loader = id -> {
+            loads.incrementAndGet();
+            sleep(10);
+            return article(id, "제목" + loads.get());
+        };
+
+        ArticleCacheProperties disabled = new ArticleCacheProperties();
+        disabled.setEarlyExpiryBeta(0);
+        ArticleCache withoutEarlyExpiry = new ArticleCache(disabled);
+
+        ArticleCacheProperties eager = new ArticleCacheProperties();
+        eager.setEarlyExpiryBeta(1e9);
+        ArticleCache withEarlyExpiry = new ArticleCache(eager);
+
+        try {
+            // when : beta가 0인 캐시를 여러 번 조회합니다.
+            for (int i = 0; i < 100; i++) {
+                withoutEarlyExpiry.get(1L, loader);
+            }
+
+            // then : 만료 전에는 다시 읽지 않습니다.
+            assertThat(loads.get()).isEqualTo(1);
+
+            // when : beta가 큰 캐시를 조회합니다.
+            withEarlyExpiry.get(1L, loader);
+
+            // then : 만료(10분) 전이지만 뒤에서 미리 새로 읽었는지 확인합니다.
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (withEarlyExpiry.stats().getRefreshCount() == 0 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertThat(withEarlyExpiry.stats().getRefreshCount()).isGreaterThanOrEqualTo(1);
+            assertThat(withEarlyExpiry.get(1L, loader).getTitle()).isNotEqualTo("제목2");
+        } finally {
+            withoutEarlyExpiry.shutdown();
+            withEarlyExpiry.shutdown();
+        }
+    }
+
+    private static ArticleResponse article(long id, String title) {
+        return new ArticleResponse(id, title, "내용", null, null, 0L);
+    }
+
+    // 뒤에서 새로 읽은 값으로 바뀔 때까지 최대 5초 기다림
+    private static boolean awaitTitle(ArticleCache articleCache, Function<Long, ArticleResponse> loader, String title)
+            throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            if (articleCache.get(1L, loader).getTitle().equals(title)) {
+                return true;
+            }
+            Thread.sleep(10);
+        }
+        return false;
+    }
+
+    // 모든 작업이 준비된 뒤 한꺼번에 출발시키고 결과를 요청 순서대로 반환
+    private static <T> List<T> runConcurrently(List<Callable<T>> tasks, int threads) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<T>> futures = new ArrayList<>();
+            for (Callable<T> task : tasks) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return task.call();
+                }));
+            }
+            start.countDown();
+
+            List<T> results = new ArrayList<>();
+            for (Future<T> future : futures) {
+                results.add(future.get(30, TimeUnit.SECONDS));
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
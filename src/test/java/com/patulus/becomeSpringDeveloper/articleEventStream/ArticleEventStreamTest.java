@@ -0,0 +1,69 @@
+package com.patulus.becomeSpringDeveloper.articleEventStream;
+
+import com.patulus.becomeSpringDeveloper.config.ArticleEventProperties;
+import com.patulus.becomeSpringDeveloper.service.ArticleEventStream;
+import com.patulus.becomeSpringDeveloper.service.TooManySubscribersException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ArticleEventStreamTest {
+
+    private ArticleEventStream articleEventStream;
+
+    @AfterEach
+    public void tearDown() {
+        articleEventStream.shutdown();
+    }
+
+    @DisplayName("subscribe: 여러 요청이 동시에 구독해도 최대 구독자 수를 넘지 않는다.")
+    @Test
+    public void subscribeConcurrently() throws Exception {
+        // given
+        final int maxSubscribers = 3;
+        final int requests = 32;
+        ArticleEventProperties properties = new ArticleEventProperties();
+        properties.setMaxSubscribers(maxSubscribers);
+        articleEventStream = new ArticleEventStream(properties);
+
+        ExecutorService executor = Executors.newFixedThreadPool(requests);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < requests; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                try {
+                    articleEventStream.subscribe(null);
+                    return true;
+                } catch (TooManySubscribersException e) {
+                    return false;
+                }
+            }));
+        }
+        start.countDown();
+
+        int subscribed = 0;
+        for (Future<Boolean> result : results) {
+            if (result.get()) {
+                subscribed++;
+            }
+        }
+        executor.shutdown();
+
+        // then
+        assertThat(subscribed).isEqualTo(maxSubscribers);
+        assertThat(articleEventStream.subscriberCount()).isEqualTo(maxSubscribers);
+    }
+
+}
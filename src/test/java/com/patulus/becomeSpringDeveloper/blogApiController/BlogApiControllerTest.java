@@ -1,27 +1,44 @@
 package com.patulus.becomeSpringDeveloper.blogApiController;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.patulus.becomeSpringDeveloper.config.CompressionFilter;
 import com.patulus.becomeSpringDeveloper.domain.Article;
 import com.patulus.becomeSpringDeveloper.dto.AddArticleRequest;
 import com.patulus.becomeSpringDeveloper.dto.UpdateArticleRequest;
 import com.patulus.becomeSpringDeveloper.repository.BlogRepository;
+import com.patulus.becomeSpringDeveloper.service.ArticleExcerptBackfill;
+import com.patulus.becomeSpringDeveloper.service.ArticleViewCounter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 // @SpringBootApplication이 있는 클래스를 찾고 그 클래스에 포함된 빈을 찾은 다음 테스트용 스프링 컨테이너를 생성
@@ -59,6 +76,18 @@ public class BlogApiControllerTest {
     @Autowired
     BlogRepository blogRepository;
 
+    @Autowired
+    CompressionFilter compressionFilter;
+
+    @Autowired
+    ArticleViewCounter articleViewCounter;
+
+    @Autowired
+    ArticleExcerptBackfill articleExcerptBackfill;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
     // @BeforeAll: 클래스 레벨 설정 : DB 연결, 테스트 환경 초기화에 사용, 전체 테스트 실행 주기에서 한 번만 실행돼야 하므로 이 애너테이션이 적용된 메서드는 static이어야 함
     // @BeforeEach: 메서드 레벨 설정: 테스트 메서드에서 사용하는 객체의 초기화, 테스트에 필요한 값을 미리 넣을 때 사용
     // @Test: 테스트 실행
@@ -106,6 +135,34 @@ public class BlogApiControllerTest {
         assertThat(articles.get(0).getContent()).isEqualTo(content);
     }
 
+    @Test
+    @DisplayName("addArticles: NDJSON으로 받은 블로그 글을 대량 등록하고 항목별 결과를 응답한다.")
+    public void addArticles() throws Exception {
+        // given: 글 3개를 NDJSON으로 만들되 두 번째 글은 제목을 비워 둡니다.
+        final String url = "/api/articles/batch";
+        final String requestBody = String.join("\n",
+                objectMapper.writeValueAsString(new AddArticleRequest("제목1", "내용1")),
+                objectMapper.writeValueAsString(new AddArticleRequest("", "내용2")),
+                objectMapper.writeValueAsString(new AddArticleRequest("제목3", "내용3")));
+
+        // when : 대량 등록 API를 호출합니다.
+        ResultActions result = mockMvc.perform(post(url)
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content(requestBody));
+
+        // then : 응답 코드가 200 OK이고, 제목이 없는 글만 실패하고 나머지는 저장되었는지 확인합니다.
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(3))
+                .andExpect(jsonPath("$.succeeded").value(2))
+                .andExpect(jsonPath("$.results[0].status").value("CREATED"))
+                .andExpect(jsonPath("$.results[1].status").value("FAILED"))
+                .andExpect(jsonPath("$.results[2].status").value("CREATED"));
+
+        List<Article> articles = blogRepository.findAll();
+
+        assertThat(articles).extracting(Article::getTitle).containsExactlyInAnyOrder("제목1", "제목3");
+    }
+
     @Test
     @DisplayName("findAllArticles: 블로그 글 목록 조회에 성공한다.")
     public void findAllArticles() throws Exception {
@@ -127,10 +184,210 @@ public class BlogApiControllerTest {
                         .accept(MediaType.APPLICATION_JSON)
         );
 
-        // then : 응답 코드가 200 OK이고, 반환받은 값 중에 0번째 요소의 content와 title이 저장된 값과 같은지 확인합니다.
+        // then : 응답 코드가 200 OK이고, 반환받은 목록 중에 0번째 요소의 excerpt와 title이 저장된 값과 같은지 확인합니다.
+        //        본문이 미리보기 길이보다 짧으므로 excerpt는 content 전체와 같습니다.
+        resultActions.andExpect(status().isOk())
+                .andExpect(jsonPath("$.articles[0].excerpt").value(content))
+                .andExpect(jsonPath("$.articles[0].title").value(title))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("findAllArticles: 긴 본문은 글자 중간에서 자르지 않은 미리보기만 응답한다.")
+    public void findAllArticlesExcerpt() throws Exception {
+        // given: 미리보기 길이(200자)의 경계에 이모지(서로게이트 쌍, 2자)가 걸치는 본문으로 글을 저장합니다.
+        final String url = "/api/articles";
+        final String prefix = "가".repeat(Article.EXCERPT_LENGTH - 1);
+        final String content = prefix + "😀" + "끝";
+
+        blogRepository.save(Article.builder().title("긴 글").content(content).build());
+
+        // when : 목록 조회 API를 호출합니다.
+        final ResultActions resultActions = mockMvc.perform(get(url));
+
+        // then : excerpt는 이모지를 반으로 자르지 않고 그 앞까지만 담습니다.
+        resultActions.andExpect(status().isOk())
+                .andExpect(jsonPath("$.articles[0].excerpt").value(prefix))
+                .andExpect(jsonPath("$.articles[0].content").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("backfillExcerpts: 미리보기가 없는 기존 글의 미리보기를 채운다.")
+    public void backfillExcerpts() throws Exception {
+        // given: 글 3개를 저장한 뒤 미리보기 컬럼이 생기기 전의 데이터처럼 excerpt를 비웁니다.
+        for (int i = 1; i <= 3; i++) {
+            blogRepository.save(Article.builder().title("제목" + i).content("내용" + i).build());
+        }
+        jdbcTemplate.update("update article set excerpt = null");
+
+        // when : 미리보기 채우기 작업을 실행합니다.
+        final int filled = articleExcerptBackfill.backfill();
+
+        // then : 3개의 글이 모두 채워지고 목록 API가 본문에서 만든 미리보기를 응답합니다.
+        assertThat(filled).isEqualTo(3);
+        assertThat(articleExcerptBackfill.backfill()).isZero();
+        mockMvc.perform(get("/api/articles"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.articles[0].excerpt").value("내용3"))
+                .andExpect(jsonPath("$.articles[2].excerpt").value("내용1"));
+    }
+
+    @Test
+    @DisplayName("findAllArticles: 커서로 다음 페이지를 이어서 조회한다.")
+    public void findAllArticlesWithCursor() throws Exception {
+        // given: 블로그 글 3개를 저장합니다.
+        final String url = "/api/articles";
+
+        for (int i = 1; i <= 3; i++) {
+            blogRepository.save(
+                    Article.builder()
+                            .title("제목" + i)
+                            .content("내용" + i)
+                            .build()
+            );
+        }
+
+        // when : 크기가 2인 첫 페이지를 조회합니다.
+        final String firstPage = mockMvc.perform(get(url).param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.articles.length()").value(2))
+                .andExpect(jsonPath("$.articles[0].title").value("제목3"))
+                .andExpect(jsonPath("$.articles[1].title").value("제목2"))
+                .andReturn().getResponse().getContentAsString();
+
+        final String nextCursor = objectMapper.readTree(firstPage).get("nextCursor").asText();
+
+        // then : 응답의 nextCursor로 조회한 다음 페이지에는 가장 오래된 글 하나만 남고 더 이상 커서가 없습니다.
+        mockMvc.perform(get(url).param("size", "2").param("cursor", nextCursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.articles.length()").value(1))
+                .andExpect(jsonPath("$.articles[0].title").value("제목1"))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("findAllArticles: 해석할 수 없는 커서로 조회하면 400을 응답한다.")
+    public void findAllArticlesInvalidCursor() throws Exception {
+        // when
+        mockMvc.perform(get("/api/articles").param("cursor", "not-a-cursor"))
+                // then
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("findAllArticles: gzip을 받는 요청에는 최소 크기 이상인 목록만 압축해 응답한다.")
+    public void findAllArticlesCompressed() throws Exception {
+        // given: 응답 압축 필터를 등록하고 목록이 최소 압축 크기를 넘도록 글을 저장합니다.
+        final MockMvc compressingMockMvc = MockMvcBuilders.webAppContextSetup(context)
+                .addFilters(compressionFilter)
+                .build();
+
+        for (int i = 1; i <= 20; i++) {
+            blogRepository.save(
+                    Article.builder()
+                            .title("압축될 제목" + i)
+                            .content("압축될 내용입니다. ".repeat(10) + i)
+                            .build()
+            );
+        }
+
+        // when : gzip을 받는다고 알리고 목록과 작은 응답(한 건 조회)을 요청합니다.
+        final MvcResult list = compressingMockMvc.perform(get("/api/articles").header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.VARY, containsString(HttpHeaders.ACCEPT_ENCODING)))
+                .andReturn();
+        final long id = blogRepository.findAll().get(0).getId();
+        compressingMockMvc.perform(get("/api/articles/" + id).header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(jsonPath("$.id").value(id));
+
+        // then : 압축을 풀면 글 20개가 담긴 JSON이고 압축본이 원본보다 작습니다.
+        final byte[] compressed = list.getResponse().getContentAsByteArray();
+        final byte[] json;
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            json = in.readAllBytes();
+        }
+
+        assertThat(objectMapper.readTree(json).get("articles").size()).isEqualTo(20);
+        assertThat(compressed.length).isLessThan(json.length);
+    }
+
+    @Test
+    @DisplayName("exportArticles: 전체 블로그 글을 NDJSON으로 내보낸다.")
+    public void exportArticles() throws Exception {
+        // given: 블로그 글 2개를 저장합니다.
+        final String url = "/api/articles/export";
+
+        Article first = blogRepository.save(Article.builder().title("제목1").content("내용1").build());
+        Article second = blogRepository.save(Article.builder().title("제목2").content("내용2").build());
+
+        // when : 내보내기 API를 호출하고 비동기로 작성되는 응답 본문을 기다립니다.
+        MvcResult mvcResult = mockMvc.perform(get(url))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then : 응답 코드가 200 OK이고, 본문의 각 줄이 id 순서대로 저장된 글 하나씩을 담고 있는지 확인합니다.
+        String body = mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        List<String> lines = body.lines().toList();
+
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readTree(lines.get(0)).get("id").asLong()).isEqualTo(first.getId());
+        assertThat(objectMapper.readTree(lines.get(1)).get("title").asText()).isEqualTo(second.getTitle());
+    }
+
+    @Test
+    @DisplayName("searchArticles: 검색어가 제목에 나오는 글을 본문에만 나오는 글보다 먼저 찾는다.")
+    public void searchArticles() throws Exception {
+        // given: 블로그 글 추가 API로 글 3개를 등록해 검색 색인에 반영합니다.
+        final String url = "/api/articles/search";
+
+        for (AddArticleRequest req : List.of(
+                new AddArticleRequest("자바 기초", "자바 문법을 정리하고 마지막에 스프링을 소개합니다."),
+                new AddArticleRequest("스프링 부트 입문", "스프링 부트로 블로그를 만듭니다."),
+                new AddArticleRequest("여행 일기", "바다를 보고 왔습니다."))) {
+            mockMvc.perform(post("/api/articles")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(req)))
+                    .andExpect(status().isCreated());
+        }
+
+        // when : "스프링"으로 검색합니다.
+        final ResultActions resultActions = mockMvc.perform(get(url).param("q", "스프링"));
+
+        // then : 스프링이 나오는 글 2개만 찾고, 제목과 본문 모두에 나오는 글이 먼저 오는지 확인합니다.
         resultActions.andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].content").value(content))
-                .andExpect(jsonPath("$[0].title").value(title));
+                .andExpect(jsonPath("$.total").value(2))
+                .andExpect(jsonPath("$.hits[0].title").value("스프링 부트 입문"))
+                .andExpect(jsonPath("$.hits[1].title").value("자바 기초"));
+    }
+
+    @Test
+    @DisplayName("searchArticles: 아주 큰 페이지 번호로 검색하면 오류 없이 빈 페이지를 반환한다.")
+    public void searchArticlesPastLastPage() throws Exception {
+        // given: 블로그 글 추가 API로 글을 등록해 검색 색인에 반영합니다.
+        final String url = "/api/articles/search";
+
+        mockMvc.perform(post("/api/articles")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new AddArticleRequest("페이지 넘김", "마지막 페이지 넘어까지 검색합니다."))))
+                .andExpect(status().isCreated());
+
+        // when : page * size가 int 범위를 넘는 페이지를 검색합니다.
+        final ResultActions resultActions = mockMvc.perform(get(url)
+                .param("q", "넘김")
+                .param("page", String.valueOf(Integer.MAX_VALUE))
+                .param("size", "50"));
+
+        // then : 200 OK와 함께 빈 결과를 반환하는지 확인합니다.
+        resultActions.andExpect(status().isOk())
+                .andExpect(jsonPath("$.page").value(Integer.MAX_VALUE))
+                .andExpect(jsonPath("$.hits").isEmpty());
     }
 
     @Test
@@ -151,10 +408,189 @@ public class BlogApiControllerTest {
         // when : 저장한 블로그 글의 id 값으로 API를 호출합니다.
         final ResultActions resultActions = mockMvc.perform(get(url, savedArticle.getId()));
 
-        // then : 응답 코드가 200 OK이고, 반환받은 content와 title이 저장된 값과 같은지 확인합니다.
+        // then : 응답 코드가 200 OK이고, 반환받은 excerpt와 title이 저장된 값과 같은지 확인합니다.
         resultActions.andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].content").value(content))
-                .andExpect(jsonPath("$[0].title").value(title));
+                .andExpect(jsonPath("$.articles[0].excerpt").value(content))
+                .andExpect(jsonPath("$.articles[0].title").value(title));
+    }
+
+    @Test
+    @DisplayName("findArticle: 글을 수정하면 캐시된 이전 내용 대신 수정된 내용을 조회한다.")
+    public void findArticleAfterUpdate() throws Exception {
+        // given: 블로그 글을 저장하고 한 번 조회해 캐시에 올립니다.
+        final String url = "/api/articles/{id}";
+
+        Article savedArticle = blogRepository.save(
+                Article.builder()
+                        .title("제목")
+                        .content("내용")
+                        .build()
+        );
+
+        mockMvc.perform(get(url, savedArticle.getId()))
+                .andExpect(jsonPath("$.title").value("제목"));
+
+        final long hitCount = objectMapper.readTree(mockMvc.perform(get("/api/articles/cache/stats"))
+                .andReturn().getResponse().getContentAsString()).get("hitCount").asLong();
+
+        // when : 같은 글을 다시 조회한 뒤 수정 API를 호출합니다.
+        mockMvc.perform(get(url, savedArticle.getId()))
+                .andExpect(jsonPath("$.title").value("제목"));
+
+        mockMvc.perform(put(url, savedArticle.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new UpdateArticleRequest("새 제목", "새 내용"))))
+                .andExpect(status().isOk());
+
+        // then : 두 번째 조회는 캐시에서 응답되었고, 수정 이후 조회는 수정된 내용을 반환합니다.
+        mockMvc.perform(get("/api/articles/cache/stats"))
+                .andExpect(jsonPath("$.hitCount").value(hitCount + 1));
+
+        mockMvc.perform(get(url, savedArticle.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("새 제목"))
+                .andExpect(jsonPath("$.content").value("새 내용"));
+    }
+
+    @Test
+    @DisplayName("findArticle: ETag가 일치하면 본문 없이 304를 응답한다.")
+    public void findArticleNotModified() throws Exception {
+        // given: 블로그 글을 저장하고 한 번 조회해 ETag를 받습니다.
+        final String url = "/api/articles/{id}";
+
+        Article savedArticle = blogRepository.save(
+                Article.builder()
+                        .title("제목")
+                        .content("내용")
+                        .build()
+        );
+
+        final String eTag = mockMvc.perform(get(url, savedArticle.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // when : 받은 ETag를 If-None-Match 헤더에 담아 다시 조회합니다.
+        final ResultActions resultActions = mockMvc.perform(get(url, savedArticle.getId())
+                .header(HttpHeaders.IF_NONE_MATCH, eTag));
+
+        // then : 응답 코드가 304 Not Modified이고 본문이 비어 있는지 확인합니다.
+        resultActions.andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("findAllArticles: 목록이 바뀌면 이전 ETag로 조회해도 200을 응답한다.")
+    public void findAllArticlesETag() throws Exception {
+        // given: 블로그 글을 저장하고 목록을 조회해 ETag를 받습니다.
+        final String url = "/api/articles";
+
+        blogRepository.save(Article.builder().title("제목1").content("내용1").build());
+
+        final String eTag = mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+
+        // when : 글을 하나 더 저장한 뒤 같은 ETag로 다시 조회합니다.
+        blogRepository.save(Article.builder().title("제목2").content("내용2").build());
+
+        final ResultActions resultActions = mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, eTag));
+
+        // then : 목록 버전이 바뀌었으므로 200 OK와 새 ETag, 새 목록을 응답합니다.
+        resultActions.andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(eTag)))
+                .andExpect(jsonPath("$.articles.length()").value(2));
+    }
+
+    @Test
+    @DisplayName("findMostViewedArticles: 조회수를 모아 반영한 뒤 조회수가 많은 순서로 글을 응답한다.")
+    public void findMostViewedArticles() throws Exception {
+        // given: 글 두 개를 저장하고 첫 번째 글은 세 번, 두 번째 글은 한 번 조회합니다.
+        final Article popular = blogRepository.save(Article.builder().title("인기 글").content("내용").build());
+        final Article quiet = blogRepository.save(Article.builder().title("조용한 글").content("내용").build());
+
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(get("/api/articles/" + popular.getId())).andExpect(status().isOk());
+        }
+        mockMvc.perform(get("/api/articles/" + quiet.getId())).andExpect(status().isOk());
+
+        // when : 메모리에 모인 조회수를 집계 테이블에 반영한 뒤 조회수 순위를 요청합니다.
+        articleViewCounter.flush();
+        final ResultActions result = mockMvc.perform(get("/api/articles/most-viewed").param("limit", "2"));
+
+        // then : 조회수가 많은 글부터 반영된 조회수와 함께 응답합니다.
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].id").value(popular.getId()))
+                .andExpect(jsonPath("$[0].views").value(3))
+                .andExpect(jsonPath("$[1].id").value(quiet.getId()))
+                .andExpect(jsonPath("$[1].views").value(1));
+    }
+
+    @Test
+    @DisplayName("findMostViewedArticles: 삭제된 글에 늦게 도착한 조회수는 반영하지 않는다.")
+    public void flushViewsOfDeletedArticle() throws Exception {
+        // given: 글을 조회한 뒤 삭제하고, 삭제 직후에 도착한 조회를 셉니다.
+        final Article savedArticle = blogRepository.save(Article.builder().title("제목").content("내용").build());
+        mockMvc.perform(get("/api/articles/" + savedArticle.getId())).andExpect(status().isOk());
+        mockMvc.perform(delete("/api/articles/{id}", savedArticle.getId())).andExpect(status().isOk());
+        articleViewCounter.increment(savedArticle.getId());
+
+        // when : 메모리에 모인 조회수를 집계 테이블에 반영합니다.
+        articleViewCounter.flush();
+
+        // then : 삭제된 글의 집계 행이 다시 만들어지지 않았는지 확인합니다.
+        assertThat(jdbcTemplate.queryForObject("select count(*) from article_view_stats where article_id = ?",
+                Long.class, savedArticle.getId())).isZero();
+    }
+
+    @Test
+    @DisplayName("subscribeArticleEvents: 글이 등록되면 구독자에게 SSE 이벤트를 보내고, 재연결하면 Last-Event-ID 이후의 이벤트를 이어서 보낸다.")
+    public void subscribeArticleEvents() throws Exception {
+        // given: 이벤트 스트림을 구독합니다.
+        final MvcResult subscription = mockMvc.perform(get("/api/articles/events"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // when : 글 두 개를 등록합니다.
+        mockMvc.perform(post("/api/articles")
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(new AddArticleRequest("첫 번째 이벤트", "내용"))))
+                .andExpect(status().isCreated());
+        mockMvc.perform(post("/api/articles")
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(new AddArticleRequest("두 번째 이벤트", "내용"))))
+                .andExpect(status().isCreated());
+
+        // then : 구독자는 두 이벤트를 created라는 이름과 연속된 id로 받습니다.
+        final String stream = awaitContent(subscription, "두 번째 이벤트");
+        final Matcher ids = Pattern.compile("id:(\\d+)\nevent:created").matcher(stream);
+        assertThat(ids.find()).isTrue();
+        final long firstId = Long.parseLong(ids.group(1));
+        assertThat(ids.find()).isTrue();
+        assertThat(Long.parseLong(ids.group(1))).isEqualTo(firstId + 1);
+        assertThat(stream).contains("첫 번째 이벤트");
+
+        // when : 첫 번째 이벤트까지 받은 클라이언트가 재연결합니다.
+        final MvcResult resumed = mockMvc.perform(get("/api/articles/events").header("Last-Event-ID", firstId))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then : 두 번째 이벤트만 다시 받습니다.
+        final String replayed = awaitContent(resumed, "두 번째 이벤트");
+        assertThat(replayed).contains("id:" + (firstId + 1)).doesNotContain("첫 번째 이벤트");
+
+        // when : 서버가 알지 못하는 이벤트 id로 재연결하면
+        final MvcResult unknown = mockMvc.perform(get("/api/articles/events").header("Last-Event-ID", Long.MAX_VALUE))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then : 이어 보낼 수 없으므로 목록을 새로 읽으라는 reset 이벤트를 받습니다.
+        assertThat(awaitContent(unknown, "event:reset")).contains("event:reset");
     }
 
     @Test
@@ -215,4 +651,50 @@ public class BlogApiControllerTest {
         assertThat(article.getTitle()).isEqualTo(newTitle);
         assertThat(article.getContent()).isEqualTo(newContent);
     }
+
+    @Test
+    @DisplayName("updateArticle: 읽은 이후 다른 사용자가 수정한 글을 수정하면 409를 응답한다.")
+    public void updateArticleConflict() throws Exception {
+        // given: 블로그 글을 저장하고, 저장 당시 버전으로 한 번 수정해 버전을 올립니다.
+        final String url = "/api/articles/{id}";
+
+        Article savedArticle = blogRepository.save(
+                Article.builder()
+                        .title("제목")
+                        .content("내용")
+                        .build()
+        );
+        final long readVersion = savedArticle.getVersion();
+
+        mockMvc.perform(put(url, savedArticle.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new UpdateArticleRequest("먼저 수정", "먼저 수정한 내용", readVersion))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.version").value(readVersion + 1));
+
+        // when : 이전 버전으로 다시 수정 API를 호출합니다.
+        ResultActions resultActions = mockMvc.perform(put(url, savedArticle.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new UpdateArticleRequest("나중 수정", "나중에 수정한 내용", readVersion))));
+
+        // then : 응답 코드가 409 Conflict이고, 먼저 수정한 내용이 그대로 남아 있는지 확인합니다.
+        resultActions.andExpect(status().isConflict());
+
+        Article article = blogRepository.findById(savedArticle.getId()).orElseThrow();
+
+        assertThat(article.getTitle()).isEqualTo("먼저 수정");
+        assertThat(article.getVersion()).isEqualTo(readVersion + 1);
+    }
+
+    // 이벤트는 전송 스레드가 비동기로 쓰므로 기대한 내용이 응답에 나타날 때까지 기다림
+    private static String awaitContent(MvcResult result, String expected) throws Exception {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        String content = result.getResponse().getContentAsString(StandardCharsets.UTF_8);
+        while (!content.contains(expected) && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+            content = result.getResponse().getContentAsString(StandardCharsets.UTF_8);
+        }
+
+        return content;
+    }
 }
@@ -0,0 +1,152 @@
+package com.patulus.becomeSpringDeveloper.blogViewController;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.patulus.becomeSpringDeveloper.domain.Article;
+import com.patulus.becomeSpringDeveloper.dto.AddArticleRequest;
+import com.patulus.becomeSpringDeveloper.dto.UpdateArticleRequest;
+import com.patulus.becomeSpringDeveloper.repository.BlogRepository;
+import com.patulus.becomeSpringDeveloper.service.RenderedPageCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.servlet.resource.ResourceUrlEncodingFilter;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+public class BlogViewControllerTest {
+
+    protected MockMvc mockMvc;
+
+    @Autowired
+    protected ObjectMapper objectMapper;
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    BlogRepository blogRepository;
+
+    @Autowired
+    RenderedPageCache renderedPageCache;
+
+    @Autowired
+    FilterRegistrationBean<ResourceUrlEncodingFilter> resourceUrlEncodingFilter;
+
+    // 화면의 정적 자원 링크에 해시를 붙이는 필터만 등록
+    // deleteAll()은 글 변경 이벤트를 발행하지 않으므로 렌더링 캐시도 직접 비움
+    @BeforeEach
+    public void mockMvcSetUp() {
+        this.mockMvc = MockMvcBuilders.webAppContextSetup(context)
+                .addFilters(resourceUrlEncodingFilter.getFilter())
+                .build();
+        blogRepository.deleteAll();
+        renderedPageCache.invalidateAll();
+    }
+
+    @Test
+    @DisplayName("getArticle: 렌더링된 글 화면을 캐시에서 원본 또는 gzip 압축본으로 응답하고, 글이 수정되면 다시 렌더링한다.")
+    public void getArticle() throws Exception {
+        // given: 글을 저장합니다. (템플릿만으로도 압축본을 만드는 최소 크기를 넘음)
+        final String content = "캐시된 화면의 본문입니다.";
+        Article savedArticle = blogRepository.save(Article.builder()
+                .title("렌더링 캐시")
+                .content(content)
+                .build());
+        final String url = "/articles/" + savedArticle.getId();
+
+        // when : gzip을 받지 않는 요청과 받는 요청을 차례로 보냅니다.
+        MvcResult plain = mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andReturn();
+        MvcResult gzipped = mockMvc.perform(get(url).header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                .andReturn();
+
+        // then : 압축본을 풀면 원본과 같은 화면입니다.
+        String html = plain.getResponse().getContentAsString(StandardCharsets.UTF_8);
+        assertThat(html).contains("렌더링 캐시");
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped.getResponse().getContentAsByteArray()))) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(html);
+        }
+
+        // when : 글을 수정합니다.
+        mockMvc.perform(put("/api/articles/" + savedArticle.getId())
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(new UpdateArticleRequest("수정된 제목", content))))
+                .andExpect(status().isOk());
+
+        // then : 수정된 제목으로 다시 렌더링됩니다.
+        String updated = mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        assertThat(updated).contains("수정된 제목").doesNotContain("렌더링 캐시");
+    }
+
+    @Test
+    @DisplayName("getArticles: 새 글이 등록되면 캐시된 목록 화면을 버리고 다시 렌더링한다.")
+    public void getArticles() throws Exception {
+        // given: 빈 목록 화면을 한 번 요청해 캐시에 넣습니다.
+        String before = mockMvc.perform(get("/articles"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        assertThat(before).doesNotContain("새로 등록한 글");
+
+        // when : 글 등록 API로 글을 추가합니다.
+        mockMvc.perform(post("/api/articles")
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(new AddArticleRequest("새로 등록한 글", "내용"))))
+                .andExpect(status().isCreated());
+
+        // then : 목록 화면에 새 글이 보입니다.
+        String after = mockMvc.perform(get("/articles"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        assertThat(after).contains("새로 등록한 글");
+    }
+
+    @Test
+    @DisplayName("staticResource: 화면의 스크립트 링크는 해시가 붙은 주소로 바뀌고, 그 주소는 gzip 압축본과 immutable 캐시 헤더로 응답한다.")
+    public void staticResource() throws Exception {
+        // given: 목록 화면에서 article.js 링크를 찾습니다.
+        String html = mockMvc.perform(get("/articles"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        Matcher script = Pattern.compile("src=\"(/js/article-[0-9a-f]{32}\\.js)\"").matcher(html);
+        assertThat(script.find()).isTrue();
+
+        // when : 해시가 붙은 주소와 해시가 없는 주소를 각각 요청합니다.
+        // then : 해시가 붙은 주소는 오래 캐시하고 빌드 때 만든 gzip 압축본을 보내며, 해시가 없는 주소는 매번 재검증합니다.
+        mockMvc.perform(get(script.group(1)).header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=31536000, public, immutable"));
+        mockMvc.perform(get("/js/article.js"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"));
+    }
+
+}
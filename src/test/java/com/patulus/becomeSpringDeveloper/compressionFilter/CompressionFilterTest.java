@@ -0,0 +1,137 @@
+package com.patulus.becomeSpringDeveloper.compressionFilter;
+
+import com.patulus.becomeSpringDeveloper.config.AcceptEncoding;
+import com.patulus.becomeSpringDeveloper.config.CompressionFilter;
+import com.patulus.becomeSpringDeveloper.config.CompressionProperties;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CompressionFilterTest {
+
+    @DisplayName("doFilter: 논블로킹 쓰기(WriteListener)를 쓰는 응답은 압축하지 않고 원래 스트림으로 그대로 보낸다.")
+    @Test
+    public void nonBlockingWritePassesThrough() throws Exception {
+        // given
+        CompressionProperties properties = new CompressionProperties();
+        properties.setMimeTypes(List.of(MediaType.TEXT_HTML_VALUE));
+        CompressionFilter filter = new CompressionFilter(properties);
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/articles");
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip");
+        NonBlockingResponse response = new NonBlockingResponse(new MockHttpServletResponse());
+        byte[] body = new byte[4096];
+        Arrays.fill(body, (byte) 'a');
+
+        // when
+        filter.doFilter(request, response, (req, res) -> {
+            res.setContentType(MediaType.TEXT_HTML_VALUE);
+            ServletOutputStream out = res.getOutputStream();
+            out.setWriteListener(new WriteListener() {
+                @Override
+                public void onWritePossible() throws IOException {
+                    if (out.isReady()) {
+                        out.write(body);
+                    }
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                }
+            });
+        });
+
+        // then
+        assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(response.written.toByteArray()).isEqualTo(body);
+    }
+
+    @DisplayName("doFilter: 강한 ETag가 붙은 응답을 압축하면 원본과 구분되도록 약한 ETag로 바꾼다.")
+    @Test
+    public void compressedResponseWeakensETag() throws Exception {
+        // given
+        CompressionProperties properties = new CompressionProperties();
+        properties.setMimeTypes(List.of(MediaType.APPLICATION_JSON_VALUE));
+        CompressionFilter filter = new CompressionFilter(properties);
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/articles");
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        byte[] body = new byte[4096];
+        Arrays.fill(body, (byte) 'a');
+
+        // when
+        filter.doFilter(request, response, (req, res) -> {
+            HttpServletResponse httpResponse = (HttpServletResponse) res;
+            httpResponse.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            httpResponse.setHeader(HttpHeaders.ETAG, "\"list-1\"");
+            httpResponse.getOutputStream().write(body);
+        });
+
+        // then
+        assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo("W/\"list-1\"");
+    }
+
+    @DisplayName("accepts: 직접 적힌 coding을 *보다 먼저 따른다.")
+    @Test
+    public void acceptEncodingPrefersExplicitCoding() {
+        assertThat(AcceptEncoding.accepts("*;q=0, gzip", "gzip")).isTrue();
+        assertThat(AcceptEncoding.accepts("gzip;q=0, *", "gzip")).isFalse();
+        assertThat(AcceptEncoding.accepts("br, *", "gzip")).isTrue();
+        assertThat(AcceptEncoding.accepts("br, *;q=0", "gzip")).isFalse();
+        assertThat(AcceptEncoding.accepts("identity", "gzip")).isFalse();
+    }
+
+    // 서블릿 컨테이너처럼 WriteListener를 받아 바로 쓰기 가능 알림을 보내는 응답
+    private static class NonBlockingResponse extends HttpServletResponseWrapper {
+
+        private final ByteArrayOutputStream written = new ByteArrayOutputStream();
+
+        private final ServletOutputStream outputStream = new ServletOutputStream() {
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+                try {
+                    writeListener.onWritePossible();
+                } catch (IOException e) {
+                    writeListener.onError(e);
+                }
+            }
+
+            @Override
+            public void write(int b) {
+                written.write(b);
+            }
+        };
+
+        NonBlockingResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() {
+            return outputStream;
+        }
+
+    }
+
+}
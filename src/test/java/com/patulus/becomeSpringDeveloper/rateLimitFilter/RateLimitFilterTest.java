@@ -0,0 +1,109 @@
+package com.patulus.becomeSpringDeveloper.rateLimitFilter;
+
+import com.patulus.becomeSpringDeveloper.config.RateLimiter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// MockMvc는 sendError 뒤의 /error 재요청을 실행하지 않으므로, 실제 서버를 띄워 클라이언트가 받는 응답을 확인
+// 보정(calibration)된 강도로는 로그인 실패마다 해싱에 수백 ms가 걸리므로 가장 낮은 강도로 고정
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"blog.security.password.min-strength=4", "blog.security.password.max-strength=4"})
+public class RateLimitFilterTest {
+
+    // 리다이렉트를 따라가지 않아야 302로 바뀌었는지 알 수 있음
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .followRedirects(HttpClient.Redirect.NEVER)
+            .build();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    RateLimiter rateLimiter;
+
+    @DisplayName("filterChain: 로그인 시도가 허용량을 넘으면 로그인 페이지로 보내지 않고 세션 없이 429를 응답한다.")
+    @Test
+    public void loginRateLimited() throws Exception {
+        // given
+        HttpRequest login = HttpRequest.newBuilder(uri("/login"))
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_FORM_URLENCODED_VALUE)
+                .POST(HttpRequest.BodyPublishers.ofString("username=rate-limit@example.com&password=wrong"))
+                .build();
+        final int capacity = 10;
+
+        for (int i = 0; i < capacity; i++) {
+            assertThat(client.send(login, HttpResponse.BodyHandlers.discarding()).statusCode())
+                    .isEqualTo(HttpStatus.FOUND.value());
+        }
+
+        // when
+        HttpResponse<Void> response = client.send(login, HttpResponse.BodyHandlers.discarding());
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+        assertThat(response.headers().firstValue(HttpHeaders.RETRY_AFTER)).isPresent();
+        assertThat(response.headers().firstValue(HttpHeaders.LOCATION)).isEmpty();
+        assertThat(response.headers().firstValue(HttpHeaders.SET_COOKIE)).isEmpty();
+    }
+
+    @DisplayName("apiFilterChain: 토큰 발급 요청이 허용량을 넘으면 세션 없이 429를 응답한다.")
+    @Test
+    public void createTokensRateLimited() throws Exception {
+        // given
+        HttpRequest createTokens = HttpRequest.newBuilder(uri("/api/token"))
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .POST(HttpRequest.BodyPublishers.ofString("{\"email\":\"rate-limit@example.com\",\"password\":\"wrong\"}"))
+                .build();
+        final int capacity = 10;
+
+        for (int i = 0; i < capacity; i++) {
+            assertThat(client.send(createTokens, HttpResponse.BodyHandlers.discarding()).statusCode())
+                    .isEqualTo(HttpStatus.UNAUTHORIZED.value());
+        }
+
+        // when
+        HttpResponse<Void> response = client.send(createTokens, HttpResponse.BodyHandlers.discarding());
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+        assertThat(response.headers().firstValue(HttpHeaders.RETRY_AFTER)).isPresent();
+        assertThat(response.headers().firstValue(HttpHeaders.LOCATION)).isEmpty();
+        assertThat(response.headers().firstValue(HttpHeaders.SET_COOKIE)).isEmpty();
+    }
+
+    @DisplayName("actuatorFilterChain: 상태 확인은 요청 수 제한과 과부하 거절을 거치지 않는다.")
+    @Test
+    public void healthNotRateLimited() throws Exception {
+        // given
+        HttpRequest health = HttpRequest.newBuilder(uri("/actuator/health")).GET().build();
+        long allowedBefore = rateLimiter.stats().getAllowed();
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            assertThat(client.send(health, HttpResponse.BodyHandlers.discarding()).statusCode())
+                    .isEqualTo(HttpStatus.OK.value());
+        }
+
+        // then: 제한 판단을 하지 않았으므로 허용 수도 늘지 않음
+        assertThat(rateLimiter.stats().getAllowed()).isEqualTo(allowedBefore);
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+}
@@ -0,0 +1,103 @@
+package com.patulus.becomeSpringDeveloper.reactiveBlogApiController;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.patulus.becomeSpringDeveloper.domain.Article;
+import com.patulus.becomeSpringDeveloper.repository.BlogRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class ReactiveBlogApiControllerTest {
+
+    @Autowired
+    protected MockMvc mockMvc;
+
+    @Autowired
+    protected ObjectMapper objectMapper;
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    BlogRepository blogRepository;
+
+    @BeforeEach
+    public void mockMvcSetUp() {
+        this.mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+        blogRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("findAllArticles: JPA로 저장한 글을 R2DBC로 읽어 NDJSON으로 스트리밍한다.")
+    public void findAllArticles() throws Exception {
+        // given: JPA 저장소로 블로그 글 2개를 저장합니다.
+        final String url = "/api/v2/articles";
+
+        Article first = blogRepository.save(Article.builder().title("제목1").content("내용1").build());
+        Article second = blogRepository.save(Article.builder().title("제목2").content("내용2").build());
+
+        // when : 논블로킹 목록 API를 호출하고 비동기로 작성되는 응답 본문을 기다립니다.
+        MvcResult mvcResult = mockMvc.perform(get(url))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then : 응답 코드가 200 OK이고, 본문의 각 줄이 id 순서대로 저장된 글 하나씩을 ArticleResponse 형태로 담고 있는지 확인합니다.
+        String body = mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        List<String> lines = body.lines().toList();
+
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readTree(lines.get(0)).get("id").asLong()).isEqualTo(first.getId());
+        assertThat(objectMapper.readTree(lines.get(0)).get("content").asText()).isEqualTo(first.getContent());
+        assertThat(objectMapper.readTree(lines.get(1)).get("title").asText()).isEqualTo(second.getTitle());
+        assertThat(objectMapper.readTree(lines.get(1)).get("version").asLong()).isEqualTo(second.getVersion());
+    }
+
+    @Test
+    @DisplayName("findArticle: 글이 있으면 200과 글을, 없으면 404를 응답한다.")
+    public void findArticle() throws Exception {
+        // given: 블로그 글을 저장합니다.
+        Article savedArticle = blogRepository.save(Article.builder().title("제목").content("내용").build());
+
+        // when : 저장한 글과 없는 글의 id로 논블로킹 단건 조회 API를 호출합니다.
+        MvcResult found = mockMvc.perform(get("/api/v2/articles/{id}", savedArticle.getId()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MvcResult missing = mockMvc.perform(get("/api/v2/articles/{id}", savedArticle.getId() + 1000))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then : 저장한 글은 제목과 내용을 응답하고, 없는 글은 404 NOT FOUND를 응답합니다.
+        mockMvc.perform(asyncDispatch(found))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value(savedArticle.getTitle()))
+                .andExpect(jsonPath("$.content").value(savedArticle.getContent()));
+        mockMvc.perform(asyncDispatch(missing))
+                .andExpect(status().isNotFound());
+    }
+
+}
@@ -0,0 +1,256 @@
+package com.patulus.becomeSpringDeveloper.readWriteRoutingDataSource;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.patulus.becomeSpringDeveloper.domain.Article;
+import com.patulus.becomeSpringDeveloper.dto.AddArticleRequest;
+import com.patulus.becomeSpringDeveloper.dto.AddUserRequest;
+import com.patulus.becomeSpringDeveloper.dto.ArticleResponse;
+import com.patulus.becomeSpringDeveloper.dto.CreateAccessTokenRequest;
+import com.patulus.becomeSpringDeveloper.dto.CreateTokenRequest;
+import com.patulus.becomeSpringDeveloper.dto.UpdateArticleRequest;
+import com.patulus.becomeSpringDeveloper.repository.BlogRepository;
+import com.patulus.becomeSpringDeveloper.repository.RefreshTokenRepository;
+import com.patulus.becomeSpringDeveloper.repository.UserRepository;
+import com.patulus.becomeSpringDeveloper.service.BlogService;
+import com.patulus.becomeSpringDeveloper.service.UserService;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 원본(primary)과 복제본(replica) 대신 서로 다른 H2 인메모리 DB 두 개를 띄워 어느 DB로 갔는지 확인
+// 두 DB 사이에는 복제가 없으므로 원본에 쓴 글은 복제본에서 보이지 않고, 복제본에만 넣은 글은 원본에서 보이지 않음
+// 토큰 발급에서 비밀번호 해싱이 오래 걸리지 않도록 가장 낮은 강도로 고정
+@SpringBootTest(properties = {
+        "blog.datasource.replica.url=" + ReadWriteRoutingDataSourceTest.REPLICA_URL,
+        "blog.datasource.replica.read-your-writes-window=1s",
+        "blog.security.password.min-strength=4",
+        "blog.security.password.max-strength=4"
+})
+public class ReadWriteRoutingDataSourceTest {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:replica-routing-test;DB_CLOSE_DELAY=-1";
+
+    private static final String EMAIL = "routing@example.com";
+    private static final String PASSWORD = "test";
+
+    @Autowired
+    BlogService blogService;
+
+    @Autowired
+    BlogRepository blogRepository;
+
+    @Autowired
+    UserService userService;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Autowired
+    WebApplicationContext context;
+
+    MockMvc mockMvc;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    DataSource primaryDataSource;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    DataSource replicaDataSource;
+
+    JdbcTemplate primary;
+    JdbcTemplate replica;
+
+    // 실제 복제본은 원본에서 스키마를 복제받지만, 여기서는 복제본 역할의 DB에 마이그레이션을 직접 적용
+    // 시작할 때 읽기 전용 트랜잭션으로 글을 읽는 작업(검색 색인 구성)이 있으므로 애플리케이션 컨텍스트가 뜨기 전에 적용
+    @BeforeAll
+    public static void migrateReplica() {
+        Flyway.configure().dataSource(REPLICA_URL, "sa", "").load().migrate();
+    }
+
+    @BeforeEach
+    public void setUp() {
+        primary = new JdbcTemplate(primaryDataSource);
+        replica = new JdbcTemplate(replicaDataSource);
+        // 로그인은 SecurityContextHolder로 흉내 내므로 시큐리티 필터 없이 만듦
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+
+        blogRepository.deleteAll();
+        refreshTokenRepository.deleteAll();
+        userRepository.findByEmail(EMAIL).ifPresent(userRepository::delete);
+        replica.update("delete from article");
+    }
+
+    @AfterEach
+    public void cleanUp() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("findAll: 읽기 전용 트랜잭션은 복제본에서 읽는다.")
+    public void readOnlyUsesReplica() {
+        // given: 복제본에만 글을 넣습니다.
+        insertIntoReplica("복제본 글");
+
+        // when : 읽기 전용 서비스 메서드로 목록을 조회합니다.
+        List<Article> articles = blogService.findAll();
+
+        // then : 복제본에만 있는 글이 조회되는지 확인합니다.
+        assertThat(articles).extracting(Article::getTitle).containsExactly("복제본 글");
+        assertThat(blogService.findPage(null, 10).getArticles()).hasSize(1);
+        assertThat(primary.queryForObject("select count(*) from article", Long.class)).isZero();
+    }
+
+    @Test
+    @DisplayName("save: 쓰기는 원본으로 가고, 로그인하지 않은 사용자의 읽기는 계속 복제본에서 한다.")
+    public void writeUsesPrimary() {
+        // when : 로그인하지 않은 상태로 글을 저장합니다.
+        blogService.save(new AddArticleRequest("원본 글", "내용"));
+
+        // then : 글이 원본에만 저장되었고, 이어지는 읽기는 복제본에서 해 아직 보이지 않는지 확인합니다.
+        assertThat(primary.queryForObject("select count(*) from article", Long.class)).isEqualTo(1);
+        assertThat(replica.queryForObject("select count(*) from article", Long.class)).isZero();
+        assertThat(blogService.findAll()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("findAll: 쓰기를 커밋한 사용자는 잠시 동안 원본에서 읽고, 다른 사용자와 기간이 지난 뒤에는 복제본에서 읽는다.")
+    public void readYourWrites() throws Exception {
+        // given: writer로 로그인해 글을 저장합니다.
+        loginAs("writer@example.com");
+        blogService.save(new AddArticleRequest("방금 쓴 글", "내용"));
+
+        // when, then: writer는 원본에서 읽어 방금 쓴 글을 봅니다.
+        assertThat(blogService.findAll()).extracting(Article::getTitle).containsExactly("방금 쓴 글");
+
+        // when, then: 다른 사용자는 복제본에서 읽어 아직 복제되지 않은 글을 보지 못합니다.
+        loginAs("reader@example.com");
+        assertThat(blogService.findAll()).isEmpty();
+
+        // when, then: 기간(1초)이 지나면 writer도 다시 복제본에서 읽습니다.
+        loginAs("writer@example.com");
+        Thread.sleep(1200);
+        assertThat(blogService.findAll()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("findById: 수정 직후 다른 사용자가 먼저 읽어 캐시를 채워도 캐시는 원본에서 채워지므로, 수정한 사용자는 수정된 글을 본다.")
+    public void sharedCachesLoadFromPrimary() {
+        // given: writer가 쓴 글이 복제본까지 복제된 뒤, writer가 제목을 고칩니다. (고친 내용은 아직 복제되지 않음)
+        loginAs("writer@example.com");
+        Article article = blogService.save(new AddArticleRequest("고치기 전 제목", "내용"));
+        replicate(article.getId());
+        blogService.update(article.getId(), new UpdateArticleRequest("고친 제목", "내용"));
+
+        // when : 로그인하지 않은 사용자가 목록(복제본)과 글(캐시에 없으므로 읽어서 캐시에 넣음)을 먼저 읽습니다.
+        SecurityContextHolder.clearContext();
+        assertThat(blogService.findAll()).extracting(Article::getTitle).containsExactly("고치기 전 제목");
+        ArticleResponse anonymousRead = blogService.findById(article.getId());
+
+        // then : 글 캐시와 2차 캐시에 복제본의 이전 글이 들어가지 않아 두 사용자 모두 고친 제목을 봅니다.
+        assertThat(anonymousRead.getTitle()).isEqualTo("고친 제목");
+        loginAs("writer@example.com");
+        assertThat(blogService.findById(article.getId()).getTitle()).isEqualTo("고친 제목");
+    }
+
+    @Test
+    @DisplayName("findArticle: 수정 시각을 복제본에서 먼저 읽는 요청도 글 캐시는 원본에서 채워, 수정한 사용자는 수정된 글을 본다.")
+    public void findArticleLoadsCacheFromPrimary() throws Exception {
+        // given: writer가 쓴 글이 복제본까지 복제된 뒤, writer가 제목을 고칩니다. (고친 내용은 아직 복제되지 않음)
+        loginAs("writer@example.com");
+        Article article = blogService.save(new AddArticleRequest("고치기 전 제목", "내용"));
+        replicate(article.getId());
+        blogService.update(article.getId(), new UpdateArticleRequest("고친 제목", "내용"));
+
+        // when : 로그인하지 않은 사용자가 API로 글을 요청합니다.
+        //        (조건부 요청 판단용 수정 시각은 읽기 전용 트랜잭션이라 복제본에서 읽고, 글은 캐시에 없으므로 읽어서 캐시에 넣음)
+        SecurityContextHolder.clearContext();
+        mockMvc.perform(get("/api/articles/{id}", article.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("고친 제목"));
+
+        // then : 캐시에 복제본의 이전 글이 들어가지 않아 writer도 고친 제목을 봅니다.
+        loginAs("writer@example.com");
+        mockMvc.perform(get("/api/articles/{id}", article.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("고친 제목"));
+    }
+
+    @Test
+    @DisplayName("createNewAccessToken: 방금 발급해 아직 복제되지 않은 리프레시 토큰으로도 새 액세스 토큰을 발급한다.")
+    public void refreshReadsPrimary() throws Exception {
+        // given: 토큰을 발급합니다. (리프레시 토큰은 원본에만 저장되고 복제본에는 없음)
+        AddUserRequest user = new AddUserRequest();
+        user.setEmail(EMAIL);
+        user.setPassword(PASSWORD);
+        userService.save(user);
+
+        MvcResult issued = mockMvc.perform(post("/api/token")
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(new CreateTokenRequest(EMAIL, PASSWORD))))
+                .andExpect(status().isCreated())
+                .andReturn();
+        String refreshToken = objectMapper.readTree(issued.getResponse().getContentAsString()).get("refreshToken").asText();
+        assertThat(replica.queryForObject("select count(*) from refresh_token", Long.class)).isZero();
+
+        // when : 로그인하지 않은 상태(토큰만 가진 클라이언트)로 새 액세스 토큰을 요청합니다.
+        mockMvc.perform(post("/api/token/refresh")
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(new CreateAccessTokenRequest(refreshToken))))
+                // then : 원본에서 리프레시 토큰을 찾아 발급합니다.
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.accessToken").isNotEmpty());
+    }
+
+    // 원본에 있는 글 한 건을 복제본에 그대로 복사 (복제가 끝난 상태를 흉내 냄)
+    private void replicate(long id) {
+        Map<String, Object> row = primary.queryForMap("select * from article where id = ?", id);
+        replica.update("insert into article (id, title, content, excerpt, created_at, updated_at, version) values (?, ?, ?, ?, ?, ?, ?)",
+                row.get("ID"), row.get("TITLE"), row.get("CONTENT"), row.get("EXCERPT"),
+                row.get("CREATED_AT"), row.get("UPDATED_AT"), row.get("VERSION"));
+    }
+
+    private void insertIntoReplica(String title) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        replica.update("insert into article (id, title, content, excerpt, created_at, updated_at, version) values (?, ?, ?, ?, ?, ?, 0)",
+                1_000_000L, title, "내용", "내용", now, now);
+    }
+
+    private static void loginAs(String email) {
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated(email, null, List.of()));
+    }
+
+}
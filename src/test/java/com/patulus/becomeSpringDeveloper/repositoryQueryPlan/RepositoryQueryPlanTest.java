@@ -0,0 +1,178 @@
+package com.patulus.becomeSpringDeveloper.repositoryQueryPlan;
+
+import com.patulus.becomeSpringDeveloper.config.SqlStatementCounter;
+import com.patulus.becomeSpringDeveloper.domain.Article;
+import com.patulus.becomeSpringDeveloper.domain.RefreshToken;
+import com.patulus.becomeSpringDeveloper.domain.User;
+import com.patulus.becomeSpringDeveloper.repository.ArticleViewStatsRepository;
+import com.patulus.becomeSpringDeveloper.repository.BlogRepository;
+import com.patulus.becomeSpringDeveloper.repository.RefreshTokenRepository;
+import com.patulus.becomeSpringDeveloper.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.verify;
+
+// 저장소의 조회/수정 쿼리가 인덱스를 타는지 H2의 EXPLAIN으로 확인하는 실행 계획 회귀 테스트
+// 하이버네이트가 실제로 만든 SQL을 StatementInspector(SqlStatementCounter)로 받아 그대로 EXPLAIN 함
+// 쿼리나 마이그레이션의 인덱스가 바뀌어 테이블 전체를 읽게(tableScan) 되면 실패함
+@SpringBootTest
+public class RepositoryQueryPlanTest {
+
+    private static final String TABLE_SCAN = "tableScan";
+    private static final String INDEX_SORTED = "index sorted";
+    private static final String PRIMARY_KEY = "PRIMARY_KEY";
+
+    @SpyBean
+    SqlStatementCounter sqlStatementCounter;
+
+    @Autowired
+    BlogRepository blogRepository;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    ArticleViewStatsRepository articleViewStatsRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    // 행이 없으면 H2가 인덱스 대신 테이블 전체 읽기를 고를 수 있으므로 행을 넣고 통계를 갱신
+    @BeforeEach
+    public void setUp() {
+        blogRepository.saveAll(IntStream.range(0, 200)
+                .mapToObj(i -> Article.builder().title("제목" + i).content("내용" + i).build())
+                .toList());
+        jdbcTemplate.update("insert into article_view_stats (article_id, views) select id, id from article");
+        for (int i = 0; i < 20; i++) {
+            User user = userRepository.save(User.builder().email("plan" + i + "@example.com").password("password").build());
+            refreshTokenRepository.save(new RefreshToken(user.getId(), "refresh-token-" + i));
+        }
+        jdbcTemplate.execute("analyze");
+    }
+
+    @AfterEach
+    public void cleanUp() {
+        jdbcTemplate.update("delete from article_view_stats");
+        refreshTokenRepository.deleteAll();
+        userRepository.deleteAll();
+        blogRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("BlogRepository: 글 목록은 (created_at, id) 인덱스 순서대로 읽어 정렬하지 않는다.")
+    public void blogRepositoryListQueries() {
+        assertThat(planOf("article", () -> blogRepository.findFirstPage(PageRequest.ofSize(21))))
+                .contains("IDX_ARTICLE_CREATED_AT_ID", INDEX_SORTED);
+
+        // 다음 페이지는 인덱스를 처음부터 읽지 않고 커서 위치(created_at <= ?)부터 읽음
+        assertThat(planOf("article", () -> blogRepository.findPageAfter(LocalDateTime.now(), 100L, PageRequest.ofSize(21))))
+                .contains("IDX_ARTICLE_CREATED_AT_ID: CREATED_AT <=", INDEX_SORTED);
+
+        assertThat(planOf("article", () -> blogRepository.findSummariesByIdIn(List.of(1L, 2L, 3L))))
+                .contains(PRIMARY_KEY)
+                .doesNotContain(TABLE_SCAN);
+
+        // 목록 버전은 테이블을 읽지 않고 updated_at 인덱스의 끝 값과 행 수만 읽음
+        assertThat(planOf("article", () -> blogRepository.findListVersion()))
+                .contains("IDX_ARTICLE_UPDATED_AT", "direct lookup");
+
+        // 전체 내보내기는 모든 행을 읽지만 id 순서로 정렬하지 않고 기본 키 순서대로 읽음
+        assertThat(planOf("article", () -> new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            try (var articles = blogRepository.streamAll()) {
+                articles.findFirst();
+            }
+        }))).contains(PRIMARY_KEY, INDEX_SORTED);
+    }
+
+    @Test
+    @DisplayName("BlogRepository: 글 한 건을 읽거나 수정하는 쿼리는 기본 키로 찾는다.")
+    public void blogRepositoryKeyQueries() {
+        long id = blogRepository.findAll(PageRequest.ofSize(1)).getContent().get(0).getId();
+
+        assertThat(planOf("article", () -> blogRepository.findById(id))).contains(PRIMARY_KEY).doesNotContain(TABLE_SCAN);
+        assertThat(planOf("article", () -> blogRepository.existsById(id))).contains(PRIMARY_KEY).doesNotContain(TABLE_SCAN);
+        assertThat(planOf("article", () -> blogRepository.findUpdatedAtById(id))).contains(PRIMARY_KEY).doesNotContain(TABLE_SCAN);
+
+        // 벌크 UPDATE는 트랜잭션이 필요하므로 실행 후 되돌림
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        assertThat(planOf("article", () -> transaction.executeWithoutResult(status -> {
+            blogRepository.updateContent(id, "제목", "내용", "내용", LocalDateTime.now());
+            status.setRollbackOnly();
+        }))).contains(PRIMARY_KEY).doesNotContain(TABLE_SCAN);
+        assertThat(planOf("article", () -> transaction.executeWithoutResult(status -> {
+            blogRepository.updateIfVersionMatches(id, 0L, "제목", "내용", "내용", LocalDateTime.now());
+            status.setRollbackOnly();
+        }))).contains(PRIMARY_KEY).doesNotContain(TABLE_SCAN);
+    }
+
+    @Test
+    @DisplayName("UserRepository, RefreshTokenRepository: 로그인과 토큰 재발급 조회는 인덱스로 찾는다.")
+    public void userAndTokenQueries() {
+        // email, user_id는 unique 제약 조건의 인덱스를 사용
+        assertThat(planOf("users", () -> userRepository.findByEmail("plan3@example.com"))).doesNotContain(TABLE_SCAN);
+        assertThat(planOf("refresh_token", () -> refreshTokenRepository.findByUserId(1L))).doesNotContain(TABLE_SCAN);
+
+        assertThat(planOf("refresh_token", () -> refreshTokenRepository.findByRefreshToken("refresh-token-3")))
+                .contains("IDX_REFRESH_TOKEN_REFRESH_TOKEN")
+                .doesNotContain(TABLE_SCAN);
+    }
+
+    @Test
+    @DisplayName("ArticleViewStatsRepository: 조회수 순위는 조회수 인덱스 순서로 읽고 글은 기본 키로 조인한다.")
+    public void mostViewedQuery() {
+        assertThat(planOf("article_view_stats", () -> articleViewStatsRepository.findMostViewed(PageRequest.ofSize(10))))
+                .contains("IDX_ARTICLE_VIEW_STATS_VIEWS", PRIMARY_KEY, INDEX_SORTED)
+                .doesNotContain(TABLE_SCAN);
+    }
+
+    // query를 실행하는 동안 하이버네이트가 table에 보낸 마지막 SQL의 실행 계획
+    // 2차 캐시에 적중하면 SQL을 보내지 않으므로 캐시를 비운 뒤(캐시 실패일 때 DB가 하는 일) 실행
+    private String planOf(String table, Runnable query) {
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+        clearInvocations(sqlStatementCounter);
+        query.run();
+
+        ArgumentCaptor<String> statements = ArgumentCaptor.forClass(String.class);
+        verify(sqlStatementCounter, atLeastOnce()).inspect(statements.capture());
+        List<String> candidates = statements.getAllValues().stream()
+                .filter(sql -> sql.contains(" " + table + " "))
+                .toList();
+        assertThat(candidates).isNotEmpty();
+        String sql = candidates.get(candidates.size() - 1);
+
+        // 바인딩하지 않은 파라미터(?)는 실행 계획에 ?1, ?2로 표시됨
+        return jdbcTemplate.query(connection -> connection.prepareStatement("explain " + sql),
+                resultSet -> resultSet.next() ? resultSet.getString(1) : "");
+    }
+
+}
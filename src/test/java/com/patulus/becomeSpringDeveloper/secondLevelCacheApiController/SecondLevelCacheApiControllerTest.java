@@ -0,0 +1,136 @@
+package com.patulus.becomeSpringDeveloper.secondLevelCacheApiController;
+
+import com.patulus.becomeSpringDeveloper.config.SqlStatementCounter;
+import com.patulus.becomeSpringDeveloper.domain.Article;
+import com.patulus.becomeSpringDeveloper.domain.User;
+import com.patulus.becomeSpringDeveloper.repository.BlogRepository;
+import com.patulus.becomeSpringDeveloper.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class SecondLevelCacheApiControllerTest {
+
+    private static final String EMAIL = "second-level-cache@example.com";
+
+    @Autowired
+    protected MockMvc mockMvc;
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    BlogRepository blogRepository;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    SqlStatementCounter sqlStatementCounter;
+
+    // 다른 테스트가 남긴 캐시 항목과 누적 통계를 비워 이 테스트의 적중/실패만 세도록 함
+    @BeforeEach
+    public void mockMvcSetUp() {
+        this.mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+        blogRepository.deleteAll();
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        sessionFactory.getCache().evictAllRegions();
+        sessionFactory.getStatistics().clear();
+    }
+
+    @AfterEach
+    public void cleanUp() {
+        userRepository.findByEmail(EMAIL).ifPresent(userRepository::delete);
+    }
+
+    @Test
+    @DisplayName("findUser: 같은 사용자를 다시 찾으면 2차 캐시에서 가져오고 SELECT를 실행하지 않는다.")
+    public void findUser() throws Exception {
+        // given: 사용자를 저장하고 2차 캐시를 비웁니다.
+        User savedUser = userRepository.save(User.builder().email(EMAIL).password("password").build());
+        entityManagerFactory.getCache().evict(User.class);
+
+        // when : 서로 다른 영속성 컨텍스트(트랜잭션)에서 같은 사용자를 두 번 찾습니다.
+        userRepository.findById(savedUser.getId()).orElseThrow();
+        sqlStatementCounter.start();
+        User cachedUser = userRepository.findById(savedUser.getId()).orElseThrow();
+        int statements = sqlStatementCounter.stop();
+
+        // then : 두 번째 조회는 SQL 없이 같은 사용자를 돌려주고, user 영역 통계에 실패 1번과 적중 1번이 남는지 확인합니다.
+        assertThat(statements).isZero();
+        assertThat(cachedUser.getEmail()).isEqualTo(EMAIL);
+
+        mockMvc.perform(get("/api/cache/second-level/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[?(@.region == 'user')].missCount").value(1))
+                .andExpect(jsonPath("$[?(@.region == 'user')].hitCount").value(1))
+                .andExpect(jsonPath("$[?(@.region == 'user')].hitRate").value(0.5))
+                .andExpect(jsonPath("$[?(@.region == 'user')].size").value(1));
+    }
+
+    @Test
+    @DisplayName("findArticle: 글은 2차 캐시에 보관하지 않는다 (id 조회는 ArticleCache가 맡음).")
+    public void findArticle() {
+        // given: 블로그 글을 저장합니다.
+        Article savedArticle = blogRepository.save(Article.builder().title("제목").content("내용").build());
+
+        // when : 글을 찾습니다.
+        blogRepository.findById(savedArticle.getId()).orElseThrow();
+
+        // then : 글 수정은 벌크 UPDATE라서 2차 캐시에 두면 수정마다 영역 전체가 비워지므로 보관하지 않았는지 확인합니다.
+        assertThat(entityManagerFactory.getCache().contains(Article.class, savedArticle.getId())).isFalse();
+    }
+
+    @Test
+    @DisplayName("findByEmail: 같은 이메일로 다시 찾으면 쿼리 캐시에서 가져오고, 사용자가 바뀌면 다시 조회한다.")
+    public void findByEmail() throws Exception {
+        // given: 사용자를 저장합니다.
+        userRepository.save(User.builder().email(EMAIL).password("password").build());
+
+        // when : 같은 이메일로 두 번 찾습니다.
+        userRepository.findByEmail(EMAIL).orElseThrow();
+        sqlStatementCounter.start();
+        userRepository.findByEmail(EMAIL).orElseThrow();
+        int statements = sqlStatementCounter.stop();
+
+        // then : 두 번째 조회는 SQL 없이 쿼리 캐시(user-by-email)에서 가져오는지 확인합니다.
+        assertThat(statements).isZero();
+
+        mockMvc.perform(get("/api/cache/second-level/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[?(@.region == 'user-by-email')].missCount").value(1))
+                .andExpect(jsonPath("$[?(@.region == 'user-by-email')].hitCount").value(1));
+
+        // when : 비밀번호를 바꾼 뒤 다시 찾습니다.
+        User user = userRepository.findByEmail(EMAIL).orElseThrow();
+        user.updatePassword("new-password");
+        userRepository.save(user);
+
+        // then : users 테이블이 바뀌었으므로 캐시된 결과를 버리고 다시 조회해 바뀐 비밀번호를 돌려주는지 확인합니다.
+        assertThat(userRepository.findByEmail(EMAIL).orElseThrow().getPassword()).isEqualTo("new-password");
+
+        mockMvc.perform(get("/api/cache/second-level/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[?(@.region == 'user-by-email')].missCount").value(2));
+    }
+
+}
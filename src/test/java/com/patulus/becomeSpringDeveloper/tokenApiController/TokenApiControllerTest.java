@@ -0,0 +1,202 @@
+package com.patulus.becomeSpringDeveloper.tokenApiController;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.patulus.becomeSpringDeveloper.dto.AddUserRequest;
+import com.patulus.becomeSpringDeveloper.dto.CreateAccessTokenRequest;
+import com.patulus.becomeSpringDeveloper.dto.CreateTokenRequest;
+import com.patulus.becomeSpringDeveloper.repository.RefreshTokenRepository;
+import com.patulus.becomeSpringDeveloper.repository.UserRepository;
+import com.patulus.becomeSpringDeveloper.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 보정(calibration)된 강도로는 해싱 한 번에 수백 ms가 걸려 느린 환경에서 테스트 시간이 들쭉날쭉하므로 가장 낮은 강도로 고정
+@SpringBootTest(properties = {"blog.security.password.min-strength=4", "blog.security.password.max-strength=4"})
+public class TokenApiControllerTest {
+
+    private static final String EMAIL = "token@example.com";
+    private static final String PASSWORD = "test";
+
+    protected MockMvc mockMvc;
+
+    @Autowired
+    protected ObjectMapper objectMapper;
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    UserService userService;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    RefreshTokenRepository refreshTokenRepository;
+
+    // 토큰 검증 필터가 동작하도록 스프링 시큐리티 필터 체인을 적용해 MockMvc 생성
+    @BeforeEach
+    public void mockMvcSetUp() {
+        this.mockMvc = MockMvcBuilders.webAppContextSetup(context)
+                .apply(springSecurity())
+                .build();
+        refreshTokenRepository.deleteAll();
+        userRepository.deleteAll();
+
+        AddUserRequest user = new AddUserRequest();
+        user.setEmail(EMAIL);
+        user.setPassword(PASSWORD);
+        userService.save(user);
+    }
+
+    @DisplayName("createTokens: 이메일과 비밀번호로 토큰을 발급하고, 액세스 토큰으로 세션 없이 API를 호출한다.")
+    @Test
+    public void createTokens() throws Exception {
+        // given
+        final String requestBody = objectMapper.writeValueAsString(new CreateTokenRequest(EMAIL, PASSWORD));
+
+        // when
+        MvcResult result = mockMvc.perform(post("/api/token")
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(requestBody))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.accessToken").isNotEmpty())
+                .andExpect(jsonPath("$.refreshToken").isNotEmpty())
+                .andReturn();
+        String accessToken = objectMapper.readTree(result.getResponse().getContentAsString()).get("accessToken").asText();
+
+        // then
+        mockMvc.perform(get("/api/articles")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken))
+                .andExpect(status().isOk())
+                .andExpect(request().sessionAttributeDoesNotExist("SPRING_SECURITY_CONTEXT"));
+        assertThat(refreshTokenRepository.findAll()).hasSize(1);
+    }
+
+    @DisplayName("createNewAccessToken: 리프레시 토큰으로 새 액세스 토큰을 발급한다.")
+    @Test
+    public void createNewAccessToken() throws Exception {
+        // given
+        MvcResult issued = mockMvc.perform(post("/api/token")
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(new CreateTokenRequest(EMAIL, PASSWORD))))
+                .andReturn();
+        JsonNode tokens = objectMapper.readTree(issued.getResponse().getContentAsString());
+        final String requestBody = objectMapper.writeValueAsString(new CreateAccessTokenRequest(tokens.get("refreshToken").asText()));
+
+        // when
+        MvcResult result = mockMvc.perform(post("/api/token/refresh")
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(requestBody))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.accessToken").isNotEmpty())
+                .andReturn();
+
+        // then
+        String accessToken = objectMapper.readTree(result.getResponse().getContentAsString()).get("accessToken").asText();
+        mockMvc.perform(get("/api/articles")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken))
+                .andExpect(status().isOk());
+    }
+
+    @DisplayName("createTokens: 비밀번호가 틀리거나 토큰이 없으면 401을 응답한다.")
+    @Test
+    public void unauthorized() throws Exception {
+        // when
+        mockMvc.perform(post("/api/token")
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(new CreateTokenRequest(EMAIL, "wrong"))))
+                // then
+                .andExpect(status().isUnauthorized());
+
+        mockMvc.perform(get("/api/articles"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/api/articles")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer invalid"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @DisplayName("createTokens: 리프레시 토큰으로는 API를 호출할 수 없고, 액세스 토큰으로는 새 액세스 토큰을 발급받을 수 없다.")
+    @Test
+    public void tokenTypeMismatch() throws Exception {
+        // given
+        MvcResult issued = mockMvc.perform(post("/api/token")
+                        .with(remoteAddr("10.0.0.3"))
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(new CreateTokenRequest(EMAIL, PASSWORD))))
+                .andExpect(status().isCreated())
+                .andReturn();
+        JsonNode tokens = objectMapper.readTree(issued.getResponse().getContentAsString());
+
+        // when
+        mockMvc.perform(get("/api/articles")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + tokens.get("refreshToken").asText()))
+                // then
+                .andExpect(status().isUnauthorized());
+
+        mockMvc.perform(post("/api/token/refresh")
+                        .with(remoteAddr("10.0.0.3"))
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(new CreateAccessTokenRequest(tokens.get("accessToken").asText()))))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @DisplayName("createTokens: 같은 IP에서 허용량보다 많이 요청하면 429와 Retry-After를 응답한다.")
+    @Test
+    public void createTokensRateLimited() throws Exception {
+        // given
+        final String requestBody = objectMapper.writeValueAsString(new CreateTokenRequest(EMAIL, "wrong"));
+        final int capacity = 10;
+
+        // when
+        for (int i = 0; i < capacity; i++) {
+            mockMvc.perform(post("/api/token")
+                            .with(remoteAddr("10.0.0.1"))
+                            .contentType(MediaType.APPLICATION_JSON_VALUE)
+                            .content(requestBody))
+                    .andExpect(status().isUnauthorized());
+        }
+
+        // then
+        mockMvc.perform(post("/api/token")
+                        .with(remoteAddr("10.0.0.1"))
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(requestBody))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists(HttpHeaders.RETRY_AFTER));
+        // 다른 IP는 영향을 받지 않음
+        mockMvc.perform(post("/api/token")
+                        .with(remoteAddr("10.0.0.2"))
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(requestBody))
+                .andExpect(status().isUnauthorized());
+    }
+
+    private static RequestPostProcessor remoteAddr(String address) {
+        return request -> {
+            request.setRemoteAddr(address);
+            return request;
+        };
+    }
+
+}
@@ -0,0 +1,96 @@
+package com.patulus.becomeSpringDeveloper.userApiController;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.patulus.becomeSpringDeveloper.domain.User;
+import com.patulus.becomeSpringDeveloper.dto.CreateTokenRequest;
+import com.patulus.becomeSpringDeveloper.repository.RefreshTokenRepository;
+import com.patulus.becomeSpringDeveloper.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrl;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+public class UserApiControllerTest {
+
+    protected MockMvc mockMvc;
+
+    @Autowired
+    protected ObjectMapper objectMapper;
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    RefreshTokenRepository refreshTokenRepository;
+
+    @BeforeEach
+    public void mockMvcSetUp() {
+        this.mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+        refreshTokenRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @DisplayName("signup: 비밀번호를 해싱 전용 스레드에서 해싱한 뒤 회원을 저장하고 로그인 페이지로 이동한다.")
+    @Test
+    public void signup() throws Exception {
+        // given
+        final String email = "signup@example.com";
+
+        // when
+        MvcResult result = mockMvc.perform(post("/user")
+                        .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                        .param("email", email)
+                        .param("password", "test"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(redirectedUrl("/login"));
+
+        User user = userRepository.findByEmail(email).get();
+        assertThat(user.getPassword()).startsWith("{bcrypt}");
+    }
+
+    @DisplayName("login: 이전 설정으로 해싱된 비밀번호는 로그인에 성공하면 현재 설정으로 다시 해싱된다.")
+    @Test
+    public void rehashOnLogin() throws Exception {
+        // given
+        final String email = "legacy@example.com";
+        final String password = "test";
+        final String legacyHash = new BCryptPasswordEncoder(4).encode(password);
+        userRepository.save(User.builder()
+                .email(email)
+                .password(legacyHash)
+                .build());
+
+        // when
+        mockMvc.perform(post("/api/token")
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(new CreateTokenRequest(email, password))))
+                .andExpect(status().isCreated());
+
+        // then
+        User user = userRepository.findByEmail(email).get();
+        assertThat(user.getPassword()).startsWith("{bcrypt}").isNotEqualTo(legacyHash);
+    }
+
+}